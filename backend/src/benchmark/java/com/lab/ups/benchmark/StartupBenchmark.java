@@ -0,0 +1,186 @@
+package com.lab.ups.benchmark;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시간 벤치마크 (./gradlew startupBenchmark)
+ *
+ * 변형별로 백엔드를 N회 새로 띄워서 측정
+ * - start : 프로세스 실행 → 첫 /api/transmission/start 200 응답까지
+ * - A     : 프로세스 실행 → 목적지(로컬 UDP 소켓)에서 첫 패킷(A) 수신까지
+ *
+ * 모든 변형은 같은 압축 해제 jar(build/fast-start)에서 실행되며 JVM 옵션만 다름
+ */
+public class StartupBenchmark {
+
+    private static final Duration START_TIMEOUT = Duration.ofSeconds(60);
+    private static final int PACKET_TIMEOUT_MS = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opts = parseArgs(args);
+
+        String java = opts.get("java");
+        Path appDir = Path.of(opts.get("app-dir"));
+        String jar = opts.get("jar");
+        int runs = Integer.parseInt(opts.getOrDefault("runs", "5"));
+        String cdsArchive = opts.getOrDefault("cds-archive", "application.jsa");
+
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("default", List.of());
+        variants.put("fast-start", List.of("-Dspring.profiles.active=fast-start"));
+        variants.put("fast-start+aot+cds", List.of(
+                "-XX:SharedArchiveFile=" + cdsArchive,
+                "-Dspring.aot.enabled=true",
+                "-Dspring.profiles.active=fast-start"
+        ));
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-20s %6s %12s %12s %12s%n", "variant", "runs", "start(ms)", "A(ms)", "A min-max"));
+
+        for (Map.Entry<String, List<String>> v : variants.entrySet()) {
+            List<Long> startMs = new ArrayList<>();
+            List<Long> packetMs = new ArrayList<>();
+
+            for (int i = 0; i < runs; i++) {
+                long[] r = runOnce(java, appDir, jar, v.getValue());
+                startMs.add(r[0]);
+                packetMs.add(r[1]);
+            }
+
+            report.append(String.format("%-20s %6d %12d %12d %5d-%-6d%n",
+                    v.getKey(), runs, median(startMs), median(packetMs),
+                    Collections.min(packetMs), Collections.max(packetMs)));
+        }
+
+        System.out.print(report);
+
+        if (opts.containsKey("report")) {
+            Path out = Path.of(opts.get("report"));
+            Files.createDirectories(out.getParent());
+            Files.writeString(out, report.toString());
+        }
+    }
+
+    /**
+     * @return [첫 /start 수락까지 ms, 첫 패킷 A 수신까지 ms]
+     */
+    private static long[] runOnce(String java, Path appDir, String jar, List<String> jvmArgs) throws Exception {
+        int httpPort = freeTcpPort();
+
+        try (DatagramSocket device = new DatagramSocket(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))) {
+            device.setSoTimeout(PACKET_TIMEOUT_MS);
+            int srcPort = freeUdpPort();
+
+            List<String> cmd = new ArrayList<>();
+            cmd.add(java);
+            cmd.addAll(jvmArgs);
+            cmd.add("-jar");
+            cmd.add(jar);
+            cmd.add("--server.port=" + httpPort);
+
+            ProcessBuilder pb = new ProcessBuilder(cmd)
+                    .directory(appDir.toFile())
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD);
+
+            long t0 = System.nanoTime();
+            Process process = pb.start();
+
+            try {
+                String body = String.format(
+                        "{\"dstIp\":\"127.0.0.1\",\"dstPort\":%d,\"srcPort\":%d,\"siteId\":\"benchmark\"}",
+                        device.getLocalPort(), srcPort
+                );
+                awaitStartAccepted(process, httpPort, body);
+                long tStart = System.nanoTime();
+
+                DatagramPacket packet = new DatagramPacket(new byte[2048], 2048);
+                try {
+                    device.receive(packet);
+                } catch (SocketTimeoutException e) {
+                    throw new IllegalStateException("패킷 A 미수신 (" + PACKET_TIMEOUT_MS + "ms)", e);
+                }
+                long tPacket = System.nanoTime();
+
+                return new long[]{
+                        TimeUnit.NANOSECONDS.toMillis(tStart - t0),
+                        TimeUnit.NANOSECONDS.toMillis(tPacket - t0)
+                };
+            } finally {
+                process.destroy();
+                if (!process.waitFor(10, TimeUnit.SECONDS)) process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    // 서버가 뜰 때까지 /start 를 반복 호출 (연결 거부는 아직 기동 중)
+    private static void awaitStartAccepted(Process process, int httpPort, String body) throws Exception {
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        HttpRequest req = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + httpPort + "/api/transmission/start"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        long deadline = System.nanoTime() + START_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) throw new IllegalStateException("백엔드 프로세스 종료됨 exit=" + process.exitValue());
+
+            try {
+                HttpResponse<Void> res = http.send(req, HttpResponse.BodyHandlers.discarding());
+                if (res.statusCode() == 200) return;
+                throw new IllegalStateException("/start 실패 status=" + res.statusCode());
+            } catch (IOException e) {
+                Thread.sleep(10);
+            }
+        }
+        throw new IllegalStateException("/start 수락 대기 시간 초과");
+    }
+
+    private static int freeTcpPort() throws IOException {
+        try (ServerSocket s = new ServerSocket(0)) {
+            return s.getLocalPort();
+        }
+    }
+
+    private static int freeUdpPort() throws IOException {
+        try (DatagramSocket s = new DatagramSocket(0)) {
+            return s.getLocalPort();
+        }
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> opts = new HashMap<>();
+        for (String a : args) {
+            if (!a.startsWith("--") || !a.contains("=")) continue;
+            int eq = a.indexOf('=');
+            opts.put(a.substring(2, eq), a.substring(eq + 1));
+        }
+        return opts;
+    }
+}
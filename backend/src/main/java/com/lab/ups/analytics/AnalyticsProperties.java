@@ -0,0 +1,38 @@
+package com.lab.ups.analytics;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@Component
+@ConfigurationProperties(prefix = "ups.analytics")
+public class AnalyticsProperties {
+
+    // 텀블링 윈도우 길이 / 보관할 완료 윈도우 수
+    @Min(1)
+    private long windowSeconds = 60;
+    @Min(1)
+    private int retainedWindows = 10;
+
+    // 조회 시 상위 몇 개까지 보여줄지 (후보는 topK * 4 개 유지)
+    @Min(1)
+    private int topK = 10;
+
+    // HyperLogLog 정밀도 (12 → 4KB, 오차 약 1.6%)
+    @Min(4)
+    @Max(16)
+    private int hllPrecision = 12;
+
+    // Count-Min Sketch 크기
+    @Min(1)
+    private int cmsDepth = 4;
+    @Min(1)
+    private int cmsWidth = 2048;
+}
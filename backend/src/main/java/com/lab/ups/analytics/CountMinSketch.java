@@ -0,0 +1,33 @@
+package com.lab.ups.analytics;
+
+/**
+ * 고정 메모리 빈도 추정 (Count-Min Sketch)
+ * - 과대 추정만 발생 (실제값 이상), 오차는 width 에 반비례
+ */
+public class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final long[][] table;
+
+    public CountMinSketch(int depth, int width) {
+        this.depth = depth;
+        this.width = width;
+        this.table = new long[depth][width];
+    }
+
+    // 행마다 다른 인덱스: h1 + i*h2 (double hashing)
+    // h2 는 홀수로 강제 → width 가 2의 거듭제곱이어도 행마다 서로 다른 칸에 매핑
+    public long add(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            int idx = Math.floorMod(h1 + i * h2, width);
+            long v = ++table[i][idx];
+            if (v < min) min = v;
+        }
+        return min;
+    }
+}
@@ -0,0 +1,28 @@
+package com.lab.ups.analytics;
+
+/**
+ * 스케치용 64비트 해시 (FNV-1a + murmur3 fmix64)
+ * - 분산 품질만 필요하고 보안 목적 아님
+ */
+final class Hashing {
+
+    private Hashing() {}
+
+    static long hash(String s) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return fmix64(h);
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,49 @@
+package com.lab.ups.analytics;
+
+/**
+ * 고정 메모리 고유 개수 추정 (HyperLogLog)
+ * - 레지스터 2^p 개 (p=12 → 4096 바이트, 표준오차 약 1.6%)
+ * - 작은 값 구간은 linear counting 으로 보정
+ */
+public class HyperLogLog {
+
+    private final int p;
+    private final int m;
+    private final byte[] registers;
+
+    public HyperLogLog(int p) {
+        if (p < 4 || p > 16) throw new IllegalArgumentException("p는 4~16 범위여야 합니다: " + p);
+        this.p = p;
+        this.m = 1 << p;
+        this.registers = new byte[m];
+    }
+
+    public void add(long hash) {
+        int idx = (int) (hash >>> (64 - p));
+        long w = hash << p;
+        int rank = (w == 0) ? (64 - p + 1) : Long.numberOfLeadingZeros(w) + 1;
+        if (rank > registers[idx]) registers[idx] = (byte) rank;
+    }
+
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte r : registers) {
+            sum += 1.0 / (1L << r);
+            if (r == 0) zeros++;
+        }
+
+        double alpha = switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+        double e = alpha * m * m / sum;
+
+        if (e <= 2.5 * m && zeros > 0) {
+            e = m * Math.log((double) m / zeros);
+        }
+        return Math.round(e);
+    }
+}
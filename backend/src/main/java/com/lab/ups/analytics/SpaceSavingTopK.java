@@ -0,0 +1,59 @@
+package com.lab.ups.analytics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 고정 개수 후보로 상위 K 추적 (Space-Saving)
+ * - 후보가 가득 차면 최소 카운트 항목을 새 키로 교체
+ * - 교체 시 카운트는 Count-Min 추정값으로 채워 과대 추정 폭을 줄임
+ */
+public class SpaceSavingTopK {
+
+    private final int capacity;
+    private final Map<String, Long> counters;
+
+    public SpaceSavingTopK(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * @param estimate 이 키의 현재 빈도 추정값 (Count-Min)
+     */
+    public void offer(String key, long estimate) {
+        Long cur = counters.get(key);
+        if (cur != null) {
+            counters.put(key, Math.max(cur + 1, estimate));
+            return;
+        }
+
+        if (counters.size() < capacity) {
+            counters.put(key, estimate);
+            return;
+        }
+
+        // 후보 수가 작으므로(수십 개) 선형 탐색
+        String minKey = null;
+        long minVal = Long.MAX_VALUE;
+        for (Map.Entry<String, Long> e : counters.entrySet()) {
+            if (e.getValue() < minVal) {
+                minVal = e.getValue();
+                minKey = e.getKey();
+            }
+        }
+        if (estimate > minVal) {
+            counters.remove(minKey);
+            counters.put(key, estimate);
+        }
+    }
+
+    public List<Map.Entry<String, Long>> top(int k) {
+        List<Map.Entry<String, Long>> list = new ArrayList<>(counters.entrySet());
+        list.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()));
+        return list.subList(0, Math.min(k, list.size()));
+    }
+}
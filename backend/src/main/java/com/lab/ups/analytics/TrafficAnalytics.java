@@ -0,0 +1,78 @@
+package com.lab.ups.analytics;
+
+import com.lab.ups.dto.TrafficWindowDto;
+import com.lab.ups.model.UdpRxPacket;
+import com.lab.ups.packet.PacketType;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 수신 경로 스트리밍 통계
+ * - 이벤트를 보관하지 않고 윈도우별 스케치만 유지 → 수신량과 무관하게 메모리 고정
+ * - 윈도우는 epoch 기준 windowSeconds 단위로 정렬된 텀블링 윈도우
+ * - 최근 retainedWindows 개의 완료 윈도우만 보관
+ *   (닫힐 때 한 번 스냅샷해서 DTO 로만 보관 → 스케치 메모리 해제, 조회 시 수신 스레드와 락 경합 없음)
+ */
+@Component
+public class TrafficAnalytics {
+
+    private final AnalyticsProperties props;
+    private final long windowMillis;
+
+    // 완료 윈도우 스냅샷 (최신순, 불변 리스트를 통째로 교체)
+    private volatile List<TrafficWindowDto> completed = List.of();
+    private volatile TrafficWindow current;
+
+    public TrafficAnalytics(AnalyticsProperties props) {
+        this.props = props;
+        this.windowMillis = props.getWindowSeconds() * 1000;
+    }
+
+    // 수신 스레드에서 호출
+    public synchronized void record(UdpRxPacket packet) {
+        TrafficWindow w = windowAt(packet.getReceivedAt());
+        int size = packet.getPayload() != null ? packet.getPayload().length : 0;
+        PacketType type = (packet.getType() != null) ? packet.getType() : PacketType.UNKNOWN;
+        w.record(packet.getSrcIp(), packet.getSrcPort(), size, type);
+    }
+
+    // 진행 중인 윈도우
+    public synchronized TrafficWindowDto current() {
+        return windowAt(Instant.now()).snapshot(props.getTopK());
+    }
+
+    // 완료된 윈도우 (최신순)
+    public List<TrafficWindowDto> completed() {
+        // 수신이 끊겨 현재 윈도우가 지난 경우에만 락을 잡고 넘김
+        Instant now = Instant.now();
+        TrafficWindow w = current;
+        if (w != null && !now.isBefore(w.getEnd())) {
+            synchronized (this) {
+                windowAt(now);
+            }
+        }
+        return completed;
+    }
+
+    // now 가 현재 윈도우를 지났으면 스냅샷을 완료 목록으로 넘기고 새 윈도우 시작
+    private TrafficWindow windowAt(Instant now) {
+        if (current != null && now.isBefore(current.getEnd())) return current;
+
+        if (current != null) {
+            List<TrafficWindowDto> next = new ArrayList<>(props.getRetainedWindows());
+            next.add(current.snapshot(props.getTopK()));
+            for (TrafficWindowDto dto : completed) {
+                if (next.size() >= props.getRetainedWindows()) break;
+                next.add(dto);
+            }
+            completed = List.copyOf(next);
+        }
+
+        long startMs = Math.floorDiv(now.toEpochMilli(), windowMillis) * windowMillis;
+        current = new TrafficWindow(Instant.ofEpochMilli(startMs), Instant.ofEpochMilli(startMs + windowMillis), props);
+        return current;
+    }
+}
@@ -0,0 +1,119 @@
+package com.lab.ups.analytics;
+
+import com.lab.ups.dto.TrafficWindowDto;
+import com.lab.ups.packet.PacketType;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 텀블링 윈도우 1개 분량의 스케치 묶음 (크기 고정)
+ * - 동기화는 TrafficAnalytics 에서 담당
+ */
+class TrafficWindow {
+
+    // payload 크기 구간: 0, 1, 2~3, 4~7, ... , 1024~2047, 2048 이상
+    private static final int SIZE_BUCKETS = 13;
+
+    private final Instant start;
+    private final Instant end;
+
+    private long packets;
+    private long bytes;
+    private final long[] typeCounts = new long[PacketType.values().length];
+    private final long[] sizeCounts = new long[SIZE_BUCKETS];
+
+    private final HyperLogLog distinctSources;
+
+    private final CountMinSketch sourceCms;
+    private final CountMinSketch unknownCms;
+    private final CountMinSketch sourceTypeCms;
+
+    private final SpaceSavingTopK topSources;
+    private final SpaceSavingTopK topUnknown;
+    private final SpaceSavingTopK topSourceTypes;
+
+    TrafficWindow(Instant start, Instant end, AnalyticsProperties props) {
+        this.start = start;
+        this.end = end;
+
+        this.distinctSources = new HyperLogLog(props.getHllPrecision());
+
+        this.sourceCms = new CountMinSketch(props.getCmsDepth(), props.getCmsWidth());
+        this.unknownCms = new CountMinSketch(props.getCmsDepth(), props.getCmsWidth());
+        this.sourceTypeCms = new CountMinSketch(props.getCmsDepth(), props.getCmsWidth());
+
+        int candidates = props.getTopK() * 4;
+        this.topSources = new SpaceSavingTopK(candidates);
+        this.topUnknown = new SpaceSavingTopK(candidates);
+        this.topSourceTypes = new SpaceSavingTopK(candidates);
+    }
+
+    Instant getEnd() {
+        return end;
+    }
+
+    void record(String srcIp, int srcPort, int size, PacketType type) {
+        packets++;
+        bytes += size;
+        typeCounts[type.ordinal()]++;
+        sizeCounts[sizeBucket(size)]++;
+
+        String source = srcIp + ":" + srcPort;
+        long h = Hashing.hash(source);
+
+        distinctSources.add(h);
+        topSources.offer(source, sourceCms.add(h));
+
+        if (type == PacketType.UNKNOWN) {
+            topUnknown.offer(source, unknownCms.add(h));
+        }
+
+        String sourceType = source + "/" + type;
+        topSourceTypes.offer(sourceType, sourceTypeCms.add(Hashing.hash(sourceType)));
+    }
+
+    TrafficWindowDto snapshot(int topK) {
+        Map<PacketType, Long> byType = new EnumMap<>(PacketType.class);
+        for (PacketType t : PacketType.values()) byType.put(t, typeCounts[t.ordinal()]);
+
+        List<TrafficWindowDto.SizeBucket> histogram = new ArrayList<>(SIZE_BUCKETS);
+        for (int i = 0; i < SIZE_BUCKETS; i++) {
+            int min = (i == 0) ? 0 : 1 << (i - 1);
+            int max = (i == 0) ? 0 : (i == SIZE_BUCKETS - 1) ? Integer.MAX_VALUE : (1 << i) - 1;
+            histogram.add(new TrafficWindowDto.SizeBucket(min, max, sizeCounts[i]));
+        }
+
+        return TrafficWindowDto.builder()
+                .windowStart(OffsetDateTime.ofInstant(start, ZoneId.systemDefault()))
+                .windowEnd(OffsetDateTime.ofInstant(end, ZoneId.systemDefault()))
+                .packets(packets)
+                .bytes(bytes)
+                .distinctSources(packets == 0 ? 0 : distinctSources.estimate())
+                .countsByType(byType)
+                .topSources(top(topSources, topK))
+                .topUnknownSources(top(topUnknown, topK))
+                .topSourceTypes(top(topSourceTypes, topK))
+                .sizeHistogram(histogram)
+                .build();
+    }
+
+    private static List<TrafficWindowDto.TopEntry> top(SpaceSavingTopK sketch, int k) {
+        List<TrafficWindowDto.TopEntry> out = new ArrayList<>();
+        for (Map.Entry<String, Long> e : sketch.top(k)) {
+            out.add(new TrafficWindowDto.TopEntry(e.getKey(), e.getValue()));
+        }
+        return out;
+    }
+
+    // 0 → 0, 1 → 1, 2~3 → 2, 4~7 → 3 ... 최대 SIZE_BUCKETS-1
+    static int sizeBucket(int size) {
+        int b = 32 - Integer.numberOfLeadingZeros(size);
+        return Math.min(b, SIZE_BUCKETS - 1);
+    }
+}
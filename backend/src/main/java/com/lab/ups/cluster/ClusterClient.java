@@ -0,0 +1,73 @@
+package com.lab.ups.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+
+@Slf4j
+@Component
+public class ClusterClient {
+
+    // 다른 노드가 전달한 요청 표시 (다시 전달하지 않도록 루프 방지)
+    public static final String FORWARDED_HEADER = "X-Ups-Forwarded";
+
+    private final RestClient restClient;
+
+    public ClusterClient(ClusterProperties props) {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(props.getProbeTimeoutMillis());
+        factory.setReadTimeout(props.getProbeTimeoutMillis() * 5);
+
+        this.restClient = RestClient.builder()
+                .requestFactory(factory)
+                .build();
+    }
+
+    /**
+     * 담당 노드로 요청 프록시
+     * - 응답 status/body(JSON)를 그대로 돌려줌
+     * - 담당 노드에 연결이 안 되면 502
+     */
+    public ResponseEntity<String> proxy(ClusterNode node, HttpMethod method, String path, Object body) {
+        try {
+            RestClient.RequestBodySpec spec = restClient.method(method)
+                    .uri(node.getUrl() + path)
+                    .header(FORWARDED_HEADER, "true")
+                    .accept(MediaType.APPLICATION_JSON);
+
+            if (body != null) spec.contentType(MediaType.APPLICATION_JSON).body(body);
+
+            ResponseEntity<String> res = spec.retrieve().toEntity(String.class);
+
+            return ResponseEntity.status(res.getStatusCode())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(res.getBody());
+
+        } catch (RestClientResponseException e) {
+            // 담당 노드의 4xx/5xx(검증 실패 등)는 그대로 전달
+            return ResponseEntity.status(e.getStatusCode())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(e.getResponseBodyAsString());
+        } catch (RestClientException e) {
+            log.warn("노드 {} 프록시 실패: {} {}", node.getId(), method, path, e);
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "담당 노드 연결 실패: " + node.getId(), e);
+        }
+    }
+
+    // 피어의 로컬 상태 조회 (probe 용, 실패 시 예외)
+    public NodeStatusDto fetchLocalStatus(ClusterNode node) {
+        return restClient.get()
+                .uri(node.getUrl() + "/api/cluster/local")
+                .header(FORWARDED_HEADER, "true")
+                .retrieve()
+                .body(NodeStatusDto.class);
+    }
+}
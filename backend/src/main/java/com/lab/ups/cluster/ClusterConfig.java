@@ -0,0 +1,16 @@
+package com.lab.ups.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ClusterConfig {
+
+    // 다른 NodeDiscovery 빈이 없을 때만 정적 피어 목록 사용
+    @Bean
+    @ConditionalOnMissingBean(NodeDiscovery.class)
+    public NodeDiscovery staticNodeDiscovery(ClusterProperties props) {
+        return new StaticNodeDiscovery(props);
+    }
+}
@@ -0,0 +1,225 @@
+package com.lab.ups.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클러스터 멤버십 / siteId 라우팅
+ * - 주기적으로 피어를 probe 해서 생존 노드로만 해시 링 구성
+ * - 일시적인 probe 실패로 세션이 오가지 않도록, 연속 evictAfterMisses 회 실패해야 제거 (그 전까지는 suspect)
+ * - 매 주기 ClusterProbedEvent 발행 (ClusterRebalancer 가 로컬 세션 인계를 매번 재시도)
+ * - 빠져나간 노드의 세션은 takeoverGraceSeconds 가 지난 뒤부터,
+ *   인계될 때까지 매 주기 OrphanedSessionsEvent 로 발행 (짧은 단절 중 이중 전송 방지)
+ * - 클러스터 비활성화 시 모든 siteId 를 로컬에서 처리
+ * - lazy-initialization 이어도 probe 가 시작되도록 eager 유지
+ */
+@Slf4j
+@Lazy(false)
+@Component
+public class ClusterMembership {
+
+    private final ClusterProperties props;
+    private final NodeDiscovery discovery;
+    private final ClusterClient client;
+    private final ApplicationEventPublisher publisher;
+
+    private final ClusterNode self;
+
+    // 피어별 마지막으로 확인된 상태 (죽은 노드의 세션 인계용)
+    private final Map<String, NodeStatusDto> lastKnown = new ConcurrentHashMap<>();
+
+    // 빠져나간 노드가 돌리던, 아직 아무도 인계받지 않은 세션 (nodeId -> 마지막 상태 + 이탈 시각)
+    private final Map<String, Orphan> orphans = new ConcurrentHashMap<>();
+
+    // 피어별 연속 probe 실패 횟수 (evictAfterMisses 회 연속 실패해야 링에서 제거)
+    private final Map<String, Integer> misses = new ConcurrentHashMap<>();
+
+    private volatile ConsistentHashRing ring;
+
+    private ScheduledExecutorService executor;
+
+    // 유예 시간 계산용 (테스트에서 교체)
+    Clock clock = Clock.systemUTC();
+
+    public ClusterMembership(ClusterProperties props, NodeDiscovery discovery, ClusterClient client, ApplicationEventPublisher publisher) {
+        this.props = props;
+        this.discovery = discovery;
+        this.client = client;
+        this.publisher = publisher;
+        this.self = new ClusterNode(props.getSelfId(), props.getSelfUrl());
+
+        // 첫 probe 전까지는 자기 자신만 있는 링
+        this.ring = new ConsistentHashRing(List.of(self), props.getVirtualNodes());
+    }
+
+    @PostConstruct
+    void init() {
+        if (!props.isEnabled()) return;
+
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r);
+            t.setName("ups-cluster-probe");
+            t.setDaemon(true);
+            return t;
+        });
+
+        executor.scheduleWithFixedDelay(this::probe, 0, props.getProbeIntervalSeconds(), TimeUnit.SECONDS);
+
+        log.info("클러스터 모드 시작: self={}, peers={}", self, props.getPeers());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) executor.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return props.isEnabled();
+    }
+
+    public ClusterNode getSelf() {
+        return self;
+    }
+
+    public ConsistentHashRing getRing() {
+        return ring;
+    }
+
+    /**
+     * siteId 담당 노드가 다른 노드이면 그 노드, 로컬 처리 대상이면 null
+     */
+    public ClusterNode remoteOwnerOf(String siteId) {
+        if (!props.isEnabled() || siteId == null) return null;
+
+        ClusterNode owner = ring.ownerOf(siteId);
+        return (owner == null || owner.equals(self)) ? null : owner;
+    }
+
+    /**
+     * siteId 세션을 실제로 돌리고 있는 노드 기준 라우팅
+     * - 생존 피어 중 마지막 probe 에서 해당 siteId 를 실행 중이던 노드가 있으면 그 노드
+     *   (인계 거절 등으로 세션이 해시 담당 노드가 아닌 곳에 남아 있는 경우)
+     * - 없으면 remoteOwnerOf 와 동일
+     * - 로컬에서 실행 중인지는 호출 측에서 먼저 확인
+     */
+    public ClusterNode locate(String siteId) {
+        if (!props.isEnabled() || siteId == null) return null;
+
+        for (ClusterNode node : ring.getNodes()) {
+            if (node.equals(self)) continue;
+            NodeStatusDto st = lastKnown.get(node.getId());
+            if (st != null && st.isRunning() && siteId.equals(st.getSiteId())) return node;
+        }
+        return remoteOwnerOf(siteId);
+    }
+
+    /**
+     * 인계 처리 완료된 세션 제거 (ClusterRebalancer 가 로컬 start 성공 후 호출)
+     */
+    public void resolveOrphan(String nodeId) {
+        orphans.remove(nodeId);
+    }
+
+    // probe 1회 (스케줄러에서 주기 호출, 테스트에서 직접 호출)
+    void probe() {
+        try {
+            Map<String, ClusterNode> alive = new LinkedHashMap<>();
+            alive.put(self.getId(), self);
+
+            for (ClusterNode node : discovery.members()) {
+                if (node.equals(self)) continue;
+
+                try {
+                    NodeStatusDto st = client.fetchLocalStatus(node);
+                    if (st != null) lastKnown.put(node.getId(), st);
+                    misses.remove(node.getId());
+                    alive.put(node.getId(), node);
+                } catch (Exception e) {
+                    int n = misses.merge(node.getId(), 1, Integer::sum);
+                    log.debug("피어 probe 실패: {} ({}회 연속, {})", node.getId(), n, e.getMessage());
+
+                    // 링에 있던 노드는 연속 실패 횟수가 기준에 닿기 전까지 유지 (suspect)
+                    if (n < props.getEvictAfterMisses() && ring.getNodes().contains(node)) {
+                        alive.put(node.getId(), node);
+                    }
+                }
+            }
+
+            Set<String> before = idsOf(ring.getNodes());
+            boolean changed = !before.equals(alive.keySet());
+            if (changed) {
+                for (String id : before) {
+                    if (alive.containsKey(id)) continue;
+                    NodeStatusDto st = lastKnown.remove(id);
+                    if (st != null && st.isRunning()) orphans.put(id, new Orphan(st, Instant.now(clock)));
+                }
+
+                ring = new ConsistentHashRing(alive.values(), props.getVirtualNodes());
+
+                log.info("클러스터 구성 변경: {} -> {}", before, alive.keySet());
+            }
+            publisher.publishEvent(new ClusterProbedEvent(ring, changed));
+
+            // 돌아온 노드의 세션, 또는 이미 다른 생존 노드가 돌리는 siteId 는 인계 대상에서 제외
+            orphans.keySet().removeIf(alive::containsKey);
+            orphans.values().removeIf(o -> isRunningOnPeer(o.status.getSiteId(), alive.keySet()));
+
+            // 유예 시간이 지난 세션만 인수 대상 (인계받지 못한 세션은 다음 probe 주기에 다시 시도)
+            Instant due = Instant.now(clock).minusSeconds(props.getTakeoverGraceSeconds());
+            List<NodeStatusDto> ready = new ArrayList<>();
+            for (Orphan o : orphans.values()) {
+                if (!o.lostAt.isAfter(due)) ready.add(o.status);
+            }
+            if (!ready.isEmpty()) {
+                publisher.publishEvent(new OrphanedSessionsEvent(ready));
+            }
+
+        } catch (Exception e) {
+            // 스케줄 작업에서 예외가 새면 이후 probe 가 멈추므로 여기서 막음
+            log.warn("클러스터 probe 오류", e);
+        }
+    }
+
+    private boolean isRunningOnPeer(String siteId, Set<String> aliveIds) {
+        if (siteId == null) return false;
+
+        for (String id : aliveIds) {
+            NodeStatusDto st = lastKnown.get(id);
+            if (st != null && st.isRunning() && siteId.equals(st.getSiteId())) return true;
+        }
+        return false;
+    }
+
+    private static class Orphan {
+        private final NodeStatusDto status;
+        private final Instant lostAt;
+
+        Orphan(NodeStatusDto status, Instant lostAt) {
+            this.status = status;
+            this.lostAt = lostAt;
+        }
+    }
+
+    private static Set<String> idsOf(List<ClusterNode> nodes) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (ClusterNode n : nodes) ids.add(n.getId());
+        return ids;
+    }
+}
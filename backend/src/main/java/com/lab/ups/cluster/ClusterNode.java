@@ -0,0 +1,23 @@
+package com.lab.ups.cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class ClusterNode {
+
+    // 노드 ID (해시 링의 키)
+    private String id;
+
+    // 노드 base URL (예: http://localhost:8091)
+    private String url;
+}
@@ -0,0 +1,17 @@
+package com.lab.ups.cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * probe 주기마다 발행 (구성 변경 여부와 무관)
+ * - ring: 이번 주기 기준 해시 링
+ * - topologyChanged: 생존 노드 구성이 이번 주기에 바뀌었는지
+ */
+@Getter
+@AllArgsConstructor
+public class ClusterProbedEvent {
+
+    private final ConsistentHashRing ring;
+    private final boolean topologyChanged;
+}
@@ -0,0 +1,39 @@
+package com.lab.ups.cluster;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ups.cluster")
+public class ClusterProperties {
+
+    // 클러스터 모드 사용 여부 (기본 false = 단일 노드 동작)
+    private boolean enabled = false;
+
+    // 현재 노드 ID / 외부에서 접근 가능한 base URL
+    private String selfId = "node-1";
+    private String selfUrl = "http://localhost:8090";
+
+    // 정적 피어 목록 (자기 자신 제외)
+    private List<ClusterNode> peers = new ArrayList<>();
+
+    // 해시 링에서 노드당 가상 노드 수 (클수록 분산이 고름)
+    private int virtualNodes = 128;
+
+    // 피어 생존 확인 주기 / 요청 타임아웃
+    private long probeIntervalSeconds = 5;
+    private int probeTimeoutMillis = 1000;
+
+    // 연속 probe 실패가 이 횟수에 닿아야 링에서 제거 (그 전까지는 suspect 로 유지)
+    private int evictAfterMisses = 3;
+
+    // 제거된 노드의 세션을 인수하기 전 대기 시간 (짧은 단절 중 두 노드가 동시에 전송하지 않도록)
+    private long takeoverGraceSeconds = 30;
+}
@@ -0,0 +1,108 @@
+package com.lab.ups.cluster;
+
+import com.lab.ups.dto.StartRequestDto;
+import com.lab.ups.model.TransmissionConfig;
+import com.lab.ups.model.TransmissionStatus;
+import com.lab.ups.service.TransmissionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 클러스터 세션 재배치 (probe 주기마다)
+ * 1) 로컬 세션의 siteId 담당이 다른 노드면 → 담당 노드에 start 전달 후 로컬 중단
+ * 2) 빠져나간 노드가 돌리던 세션의 새 담당이 자신이면 → 마지막 설정으로 로컬 start
+ *
+ * 한 노드(JVM)는 세션 1개만 운용하므로, 상대가 다른 siteId 세션을 실행 중이면 409 로 거부된다.
+ * - 인계(1)가 거부되면 로컬 세션 유지, 다음 probe 주기에 다시 시도
+ * - 인수(2)가 불가능하면 버리지 않고 다음 probe 주기에 다시 시도
+ */
+@Slf4j
+@Component
+public class ClusterRebalancer {
+
+    private final ClusterMembership membership;
+    private final ClusterClient client;
+    private final TransmissionService transmissionService;
+
+    public ClusterRebalancer(ClusterMembership membership, ClusterClient client, TransmissionService transmissionService) {
+        this.membership = membership;
+        this.client = client;
+        this.transmissionService = transmissionService;
+    }
+
+    @EventListener
+    public void onProbed(ClusterProbedEvent event) {
+        handOffLocalSession();
+    }
+
+    @EventListener
+    public void onOrphanedSessions(OrphanedSessionsEvent event) {
+        for (NodeStatusDto st : event.getSessions()) {
+            takeOver(st);
+        }
+    }
+
+    private void handOffLocalSession() {
+        TransmissionStatus s = transmissionService.getStatus();
+        TransmissionConfig cfg = s.getConfig();
+        if (!s.isRunning() || cfg == null) return;
+
+        ClusterNode owner = membership.remoteOwnerOf(cfg.getSiteId());
+        if (owner == null) return;
+
+        try {
+            ResponseEntity<String> res = client.proxy(owner, HttpMethod.POST, "/api/transmission/start", toRequest(cfg));
+            if (!res.getStatusCode().is2xxSuccessful()) {
+                log.warn("세션 인계 거부됨: siteId={} -> {} ({})", cfg.getSiteId(), owner.getId(), res.getStatusCode());
+                return;
+            }
+            // 인계 요청 사이에 다른 세션으로 바뀌었으면 건드리지 않음
+            transmissionService.stop(cfg.getSiteId());
+            log.info("세션 인계 완료: siteId={} -> {}", cfg.getSiteId(), owner.getId());
+        } catch (Exception e) {
+            // 인계 실패 시 로컬 세션 유지 (다음 probe 주기에 재시도)
+            log.warn("세션 인계 실패: siteId={} -> {}", cfg.getSiteId(), owner.getId(), e);
+        }
+    }
+
+    private void takeOver(NodeStatusDto st) {
+        if (st.getSiteId() == null || st.getDstPort() == null || st.getSrcPort() == null) {
+            membership.resolveOrphan(st.getNodeId());
+            return;
+        }
+
+        // 이미 이 노드가 같은 siteId 를 돌리고 있으면 (이전 주기 인수 / 사용자 start) 마지막 설정으로 덮어쓰지 않음
+        if (transmissionService.isRunning(st.getSiteId())) {
+            membership.resolveOrphan(st.getNodeId());
+            return;
+        }
+
+        // 담당이 다른 노드면 그 노드가 인수
+        if (membership.remoteOwnerOf(st.getSiteId()) != null) return;
+
+        try {
+            transmissionService.startExclusive(toRequest(
+                    new TransmissionConfig(st.getDstIp(), st.getDstPort(), st.getSrcPort(), st.getSiteId())
+            ));
+            membership.resolveOrphan(st.getNodeId());
+            log.info("노드 {} 의 세션 인계받음: siteId={}", st.getNodeId(), st.getSiteId());
+        } catch (ResponseStatusException e) {
+            log.warn("노드 {} 의 세션(siteId={}) 인수 대기: {}", st.getNodeId(), st.getSiteId(), e.getReason());
+        } catch (Exception e) {
+            log.warn("노드 {} 의 세션(siteId={}) 인수 실패", st.getNodeId(), st.getSiteId(), e);
+        }
+    }
+
+    private static StartRequestDto toRequest(TransmissionConfig cfg) {
+        StartRequestDto req = new StartRequestDto();
+        req.setDstIp(cfg.getDstIp());
+        req.setDstPort(cfg.getDstPort());
+        req.setSrcPort(cfg.getSrcPort());
+        req.setSiteId(cfg.getSiteId());
+        return req;
+    }
+}
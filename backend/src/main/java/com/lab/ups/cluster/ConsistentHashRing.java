@@ -0,0 +1,57 @@
+package com.lab.ups.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * siteId -> 담당 노드 매핑용 일관된 해시 링 (불변)
+ * - 노드가 추가/제거되어도 해당 노드 구간의 siteId 만 이동
+ * - 멤버가 바뀌면 새 링을 만들어 통째로 교체한다
+ */
+public class ConsistentHashRing {
+
+    private final TreeMap<Long, ClusterNode> ring = new TreeMap<>();
+    private final List<ClusterNode> nodes;
+
+    public ConsistentHashRing(Collection<ClusterNode> nodes, int virtualNodes) {
+        this.nodes = List.copyOf(nodes);
+
+        for (ClusterNode node : this.nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(node.getId() + "#" + i), node);
+            }
+        }
+    }
+
+    public List<ClusterNode> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * key(siteId)를 담당하는 노드
+     * - 링에서 hash(key) 이상인 첫 가상 노드, 없으면 처음으로 wrap-around
+     */
+    public ClusterNode ownerOf(String key) {
+        if (ring.isEmpty()) return null;
+
+        Map.Entry<Long, ClusterNode> e = ring.ceilingEntry(hash(key));
+        return (e != null) ? e.getValue() : ring.firstEntry().getValue();
+    }
+
+    // MD5 앞 8바이트를 long 으로 사용 (분산용, 보안 목적 아님)
+    static long hash(String key) {
+        try {
+            byte[] d = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            long h = 0;
+            for (int i = 0; i < 8; i++) h = (h << 8) | (d[i] & 0xFF);
+            return h;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 미지원 JVM", e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.lab.ups.cluster;
+
+import java.util.List;
+
+/**
+ * 클러스터 멤버 후보 목록 제공
+ * - 기본 구현은 정적 피어 목록(StaticNodeDiscovery)
+ * - 다른 방식(DNS, 레지스트리 등)이 필요하면 이 인터페이스를 구현한 빈을 등록하면 기본 구현 대신 사용됨
+ * - 실제 생존 여부는 ClusterMembership 이 probe 로 판단
+ */
+public interface NodeDiscovery {
+
+    // 자기 자신을 포함한 전체 후보 노드
+    List<ClusterNode> members();
+}
@@ -0,0 +1,50 @@
+package com.lab.ups.cluster;
+
+import com.lab.ups.model.TransmissionConfig;
+import com.lab.ups.model.TransmissionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 노드 간 상태 교환용 DTO
+ * - probe 응답 / 클러스터 전체 status 병합에 사용
+ * - 피어가 죽었을 때 마지막 설정으로 세션을 넘겨받기 위해 config 값 포함
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NodeStatusDto {
+
+    private String nodeId;
+    private boolean running;
+
+    private String dstIp;
+    private Integer dstPort;
+    private Integer srcPort;
+    private String siteId;
+
+    private OffsetDateTime startedAt;
+    private OffsetDateTime lastSentA;
+    private OffsetDateTime lastSentB;
+
+    public static NodeStatusDto of(String nodeId, TransmissionStatus s) {
+        TransmissionConfig cfg = s.getConfig();
+
+        return new NodeStatusDto(
+                nodeId,
+                s.isRunning(),
+                cfg != null ? cfg.getDstIp() : null,
+                cfg != null ? cfg.getDstPort() : null,
+                cfg != null ? cfg.getSrcPort() : null,
+                cfg != null ? cfg.getSiteId() : null,
+                s.getStartedAt(),
+                s.getLastSentA(),
+                s.getLastSentB()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.lab.ups.cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 빠져나간 노드가 돌리던, 아직 인계되지 않은 세션 목록 (probe 주기마다 발행)
+ * - 담당 노드가 인계에 성공하면 ClusterMembership.resolveOrphan 으로 제거
+ */
+@Getter
+@AllArgsConstructor
+public class OrphanedSessionsEvent {
+
+    private final List<NodeStatusDto> sessions;
+}
@@ -0,0 +1,29 @@
+package com.lab.ups.cluster;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기본 NodeDiscovery (ups.cluster.peers 정적 목록)
+ * - ClusterConfig 에서 다른 NodeDiscovery 빈이 없을 때만 등록
+ */
+public class StaticNodeDiscovery implements NodeDiscovery {
+
+    private final ClusterProperties props;
+
+    public StaticNodeDiscovery(ClusterProperties props) {
+        this.props = props;
+    }
+
+    @Override
+    public List<ClusterNode> members() {
+        List<ClusterNode> nodes = new ArrayList<>();
+        nodes.add(new ClusterNode(props.getSelfId(), props.getSelfUrl()));
+
+        for (ClusterNode peer : props.getPeers()) {
+            // 설정 실수로 자기 자신이 peers 에 들어가도 중복 추가하지 않음
+            if (!props.getSelfId().equals(peer.getId())) nodes.add(peer);
+        }
+        return nodes;
+    }
+}
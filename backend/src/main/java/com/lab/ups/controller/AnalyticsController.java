@@ -0,0 +1,32 @@
+package com.lab.ups.controller;
+
+import com.lab.ups.analytics.TrafficAnalytics;
+import com.lab.ups.dto.TrafficWindowDto;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private final TrafficAnalytics trafficAnalytics;
+
+    public AnalyticsController(TrafficAnalytics trafficAnalytics) {
+        this.trafficAnalytics = trafficAnalytics;
+    }
+
+    // 진행 중인 윈도우 통계
+    @GetMapping("/current")
+    public TrafficWindowDto current() {
+        return trafficAnalytics.current();
+    }
+
+    // 완료된 윈도우 통계 (최신순)
+    @GetMapping("/windows")
+    public List<TrafficWindowDto> windows() {
+        return trafficAnalytics.completed();
+    }
+}
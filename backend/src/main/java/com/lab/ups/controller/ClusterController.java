@@ -0,0 +1,62 @@
+package com.lab.ups.controller;
+
+import com.lab.ups.cluster.ClusterClient;
+import com.lab.ups.cluster.ClusterMembership;
+import com.lab.ups.cluster.ClusterNode;
+import com.lab.ups.cluster.NodeStatusDto;
+import com.lab.ups.service.TransmissionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/cluster")
+public class ClusterController {
+
+    private final ClusterMembership membership;
+    private final ClusterClient clusterClient;
+    private final TransmissionService transmissionService;
+
+    public ClusterController(ClusterMembership membership, ClusterClient clusterClient, TransmissionService transmissionService) {
+        this.membership = membership;
+        this.clusterClient = clusterClient;
+        this.transmissionService = transmissionService;
+    }
+
+    // 이 노드의 상태 (피어 probe 용)
+    @GetMapping("/local")
+    public NodeStatusDto local() {
+        return NodeStatusDto.of(membership.getSelf().getId(), transmissionService.getStatus());
+    }
+
+    // 현재 생존 노드 목록 (해시 링 구성원)
+    @GetMapping("/members")
+    public List<ClusterNode> members() {
+        return membership.getRing().getNodes();
+    }
+
+    // 생존 노드 전체 상태 병합
+    @GetMapping("/status")
+    public List<NodeStatusDto> status() {
+        List<NodeStatusDto> result = new ArrayList<>();
+
+        for (ClusterNode node : membership.getRing().getNodes()) {
+            if (node.equals(membership.getSelf())) {
+                result.add(local());
+                continue;
+            }
+            try {
+                result.add(clusterClient.fetchLocalStatus(node));
+            } catch (Exception e) {
+                // 조회 실패 노드는 결과에서 제외 (다음 probe 에서 링에서 빠짐)
+                log.warn("노드 {} 상태 조회 실패", node.getId(), e);
+            }
+        }
+        return result;
+    }
+}
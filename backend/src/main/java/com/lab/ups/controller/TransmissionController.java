@@ -1,18 +1,34 @@
 package com.lab.ups.controller;
 
+import com.lab.ups.cluster.ClusterClient;
+import com.lab.ups.cluster.ClusterMembership;
+import com.lab.ups.cluster.ClusterNode;
 import com.lab.ups.dto.StartRequestDto;
-import com.lab.ups.dto.StartResponseDto;
 import com.lab.ups.dto.StatusResponseDto;
 import com.lab.ups.model.TransmissionConfig;
 import com.lab.ups.model.TransmissionStatus;
 import com.lab.ups.service.TransmissionService;
 import com.lab.ups.sse.SseHub;
+import com.lab.ups.sse.StreamFormat;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.net.URI;
 
+/**
+ * fast-start 프로필(lazy-initialization)에서도 첫 전송 경로는 부팅 시 바로 준비되도록 eager 유지
+ * (Service / Scheduler / Sender / Receiver 는 이 컨트롤러 의존성으로 함께 생성됨)
+ */
+@Lazy(false)
 @RestController
 @RequestMapping("/api/transmission") 
 public class TransmissionController {
@@ -21,28 +37,117 @@ public class TransmissionController {
 
     private final SseHub sseHub;
 
-    public TransmissionController(TransmissionService transmissionService, SseHub sseHub) {
+    private final ClusterMembership cluster;
+
+    private final ClusterClient clusterClient;
+
+    public TransmissionController(TransmissionService transmissionService, SseHub sseHub, ClusterMembership cluster, ClusterClient clusterClient) {
         this.transmissionService = transmissionService;
         this.sseHub = sseHub;
+        this.cluster = cluster;
+        this.clusterClient = clusterClient;
     }
 
+    /**
+     * 클러스터 모드에서는 siteId 담당 노드로 전달
+     * (다른 노드가 전달한 요청이면 다시 전달하지 않고 로컬 처리)
+     * - 담당 노드가 이미 다른 siteId 세션을 실행 중이면 409 (기존 세션을 교체하지 않음)
+     */
     @PostMapping("/start")
-    public StartResponseDto start(@RequestBody @Valid StartRequestDto req) {
-        return transmissionService.start(req);
+    public ResponseEntity<?> start(
+            @RequestBody @Valid StartRequestDto req,
+            @RequestHeader(value = ClusterClient.FORWARDED_HEADER, required = false) String forwarded
+    ) {
+        ClusterNode owner = routeTo(req.getSiteId(), forwarded);
+        if (owner != null) {
+            return clusterClient.proxy(owner, HttpMethod.POST, "/api/transmission/start", req);
+        }
+        if (cluster.isEnabled()) {
+            return ResponseEntity.ok(transmissionService.startExclusive(req));
+        }
+        return ResponseEntity.ok(transmissionService.start(req));
+    }
+
+    /**
+     * 실행 중 세션 설정 교체 (스케줄/수신 소켓 유지, 다음 전송부터 반영)
+     *
+     * @param siteId 변경할 세션의 현재 siteId (클러스터 모드에서는 필수)
+     *               - 이 siteId 를 운용하는 노드로 전달하고, 로컬 세션과 다르면 409
+     * - 클러스터 모드에서 새 siteId 담당이 다른 노드면 그 노드에서 start 후 로컬 세션 중단
+     *   (노드 간 이동은 무중단이 아님, 새 담당 노드가 다른 세션 실행 중이면 409)
+     */
+    @PutMapping("/config")
+    public ResponseEntity<?> update(
+            @RequestParam(required = false) String siteId,
+            @RequestBody @Valid StartRequestDto req,
+            @RequestHeader(value = ClusterClient.FORWARDED_HEADER, required = false) String forwarded
+    ) {
+        if (!cluster.isEnabled()) {
+            return ResponseEntity.ok(transmissionService.update(req, siteId));
+        }
+        if (siteId == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "클러스터 모드에서는 siteId(현재 세션) 파라미터가 필요합니다.");
+        }
+
+        // 현재 세션을 운용하는 노드에서 처리
+        ClusterNode current = routeToSession(siteId, forwarded);
+        if (current != null) {
+            return clusterClient.proxy(current, HttpMethod.PUT, "/api/transmission/config?siteId=" + siteId, req);
+        }
+
+        // 새 siteId 담당이 다른 노드면 세션 이동
+        ClusterNode target = cluster.remoteOwnerOf(req.getSiteId());
+        if (target != null) {
+            transmissionService.requireSession(siteId);
+
+            ResponseEntity<String> res = clusterClient.proxy(target, HttpMethod.POST, "/api/transmission/start", req);
+            if (res.getStatusCode().is2xxSuccessful()) transmissionService.stop(siteId);
+            return res;
+        }
+
+        return ResponseEntity.ok(transmissionService.update(req, siteId));
     }
 
     @PostMapping("/stop")
-    public void stop() {
-        transmissionService.stop();
+    public ResponseEntity<?> stop(
+            @RequestParam(required = false) String siteId,
+            @RequestHeader(value = ClusterClient.FORWARDED_HEADER, required = false) String forwarded
+    ) {
+        ClusterNode owner = routeToSession(siteId, forwarded);
+        if (owner != null) {
+            return clusterClient.proxy(owner, HttpMethod.POST, "/api/transmission/stop?siteId=" + siteId, null);
+        }
+
+        // siteId 를 지정하면 그 세션만 중단 (다른 세션이 실행 중이면 409)
+        if (siteId != null) transmissionService.stopSession(siteId);
+        else transmissionService.stop();
+
+        return ResponseEntity.ok().build();
     }
 
     @GetMapping("/status")
-    public StatusResponseDto status() {
+    public ResponseEntity<?> status(
+            @RequestParam(required = false) String siteId,
+            @RequestHeader(value = ClusterClient.FORWARDED_HEADER, required = false) String forwarded
+    ) {
+        ClusterNode owner = routeToSession(siteId, forwarded);
+        if (owner != null) {
+            return clusterClient.proxy(owner, HttpMethod.GET, "/api/transmission/status?siteId=" + siteId, null);
+        }
+
         TransmissionStatus s = transmissionService.getStatus();
 
         TransmissionConfig cfg = s.getConfig();
 
-        return StatusResponseDto.builder()
+        // 다른 siteId 세션 상태를 돌려주지 않도록, 이 노드에서 실행 중이 아니면 running=false
+        if (siteId != null && (cfg == null || !siteId.equals(cfg.getSiteId()))) {
+            return ResponseEntity.ok(StatusResponseDto.builder()
+                    .running(false)
+                    .siteId(siteId)
+                    .build());
+        }
+
+        return ResponseEntity.ok(StatusResponseDto.builder()
                 .running(s.isRunning())
                 .dstIp(cfg != null ? cfg.getDstIp() : null)
                 .dstPort(cfg != null ? cfg.getDstPort() : null)
@@ -51,11 +156,71 @@ public class TransmissionController {
                 .startedAt(s.getStartedAt())
                 .lastSentA(s.getLastSentA())
                 .lastSentB(s.getLastSentB())
-                .build();
+                .build());
     }
 
+    /**
+     * SSE 는 프록시하지 않고 담당 노드 stream 으로 redirect (307)
+     * - 수신 이벤트는 해당 siteId 의 수신 소켓을 가진 노드에서만 발생하기 때문
+     *
+     * @param format  json(기본, 기존 포맷) | compact(축약 키 + base64 + epoch micros)
+     * @param batchMs 0보다 크면 N ms 동안의 이벤트를 배열 1건으로 묶어 전송 (최대 10초)
+     */
     @GetMapping(value = "/stream", produces = "text/event-stream")
-    public SseEmitter stream() {
-        return sseHub.connect();
+    public ResponseEntity<SseEmitter> stream(
+            @RequestParam(required = false) String siteId,
+            @RequestParam(defaultValue = "json") String format,
+            @RequestParam(defaultValue = "0") long batchMs,
+            HttpServletRequest request
+    ) {
+        StreamFormat fmt = parseSseFormat(format);
+
+        ClusterNode owner = routeToSession(siteId, null);
+        if (owner != null) return redirectTo(owner, request);
+
+        return ResponseEntity.ok(sseHub.connect(fmt, batchMs));
+    }
+
+    // SSE 로 보낼 수 있는 포맷만 허용 (오타 / binary 는 조용히 JSON 으로 바꾸지 않고 400)
+    private static StreamFormat parseSseFormat(String format) {
+        if ("json".equalsIgnoreCase(format)) return StreamFormat.JSON;
+        if ("compact".equalsIgnoreCase(format)) return StreamFormat.COMPACT;
+
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "지원하지 않는 format 입니다: " + format + " (json | compact, 바이너리는 /stream/binary)");
+    }
+
+    // 바이너리 스트림 (프레임 구조는 UdpRxEventEncoder 참고)
+    @GetMapping(value = "/stream/binary", produces = "application/octet-stream")
+    public ResponseEntity<ResponseBodyEmitter> streamBinary(
+            @RequestParam(required = false) String siteId,
+            @RequestParam(defaultValue = "0") long batchMs,
+            HttpServletRequest request
+    ) {
+        ClusterNode owner = routeToSession(siteId, null);
+        if (owner != null) return redirectTo(owner, request);
+
+        return ResponseEntity.ok(sseHub.connectBinary(batchMs));
+    }
+
+    private static <T> ResponseEntity<T> redirectTo(ClusterNode owner, HttpServletRequest request) {
+        String query = request.getQueryString();
+
+        return ResponseEntity.status(HttpStatus.TEMPORARY_REDIRECT)
+                .location(URI.create(owner.getUrl() + request.getRequestURI() + (query != null ? "?" + query : "")))
+                .build();
+    }
+
+    // 새 세션 시작 → 해시 담당 노드
+    private ClusterNode routeTo(String siteId, String forwarded) {
+        if (forwarded != null) return null;
+        return cluster.remoteOwnerOf(siteId);
+    }
+
+    // 기존 세션 대상 (stop / status / config / stream) → 로컬 우선, 그다음 실제로 돌리고 있는 노드
+    private ClusterNode routeToSession(String siteId, String forwarded) {
+        if (forwarded != null || siteId == null) return null;
+        if (transmissionService.isRunning(siteId)) return null;
+        return cluster.locate(siteId);
     }
 }
@@ -0,0 +1,59 @@
+package com.lab.ups.dto;
+
+import com.lab.ups.packet.PacketType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 텀블링 윈도우 1개의 수신 통계
+ * - distinctSources / top 목록은 스케치 기반 추정값
+ */
+@Getter
+@Builder
+public class TrafficWindowDto {
+
+    private final OffsetDateTime windowStart;
+    private final OffsetDateTime windowEnd;
+
+    // 수신 패킷 수 / 총 payload 바이트
+    private final long packets;
+    private final long bytes;
+
+    // 고유 송신자(ip:port) 수 (HyperLogLog)
+    private final long distinctSources;
+
+    // 타입별 수신 수 (정확값)
+    private final Map<PacketType, Long> countsByType;
+
+    // 송신자별 상위 (Space-Saving + Count-Min)
+    private final List<TopEntry> topSources;
+
+    // UNKNOWN 을 가장 많이 보낸 송신자
+    private final List<TopEntry> topUnknownSources;
+
+    // 송신자+타입 조합 상위 (key = "ip:port/TYPE")
+    private final List<TopEntry> topSourceTypes;
+
+    // payload 크기 분포 (2의 거듭제곱 구간)
+    private final List<SizeBucket> sizeHistogram;
+
+    @Getter
+    @AllArgsConstructor
+    public static class TopEntry {
+        private final String key;
+        private final long count;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SizeBucket {
+        private final int minBytes;
+        private final int maxBytes;
+        private final long count;
+    }
+}
@@ -0,0 +1,19 @@
+package com.lab.ups.dto;
+
+import com.lab.ups.packet.PacketType;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * format=compact 용 수신 이벤트
+ * - 필드명 축약, 시각은 epoch 마이크로초, payload 는 base64
+ */
+@Getter
+@Builder
+public class UdpRxCompactEventDto {
+    private final long t;       // 수신 시각 (epoch micros)
+    private final String ip;    // 송신자 IP
+    private final int p;        // 송신자 Port
+    private final String d;     // payload (base64)
+    private final PacketType k; // 패킷 타입
+}
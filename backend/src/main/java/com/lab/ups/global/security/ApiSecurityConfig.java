@@ -17,7 +17,9 @@ public class ApiSecurityConfig {
         http
                 .securityMatcher("/api/**")
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/api/transmission/start", "/api/transmission/stop", "/api/transmission/status", "/api/transmission/stream").permitAll()
+                        .requestMatchers("/api/transmission/start", "/api/transmission/stop", "/api/transmission/status", "/api/transmission/config", "/api/transmission/stream", "/api/transmission/stream/binary").permitAll()
+                        .requestMatchers("/api/cluster/**").permitAll()
+                        .requestMatchers("/api/analytics/**").permitAll()
                         .anyRequest().authenticated()
                 )
                 .cors(cors -> cors
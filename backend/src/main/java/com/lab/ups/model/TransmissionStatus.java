@@ -34,6 +34,14 @@ public class TransmissionStatus {
         this.lastSentB = null;
     }
 
+    /**
+     * 실행 중 설정만 교체 (시작 시각 / 마지막 전송 시각 유지)
+     * - 스케줄러는 매 전송마다 config 를 읽으므로 다음 전송부터 새 설정 적용
+     */
+    public synchronized void updateConfig(TransmissionConfig cfg) {
+        this.config = cfg;
+    }
+
     /**
      * 전송 중단 처리
      * - 스케줄러는 running 체크로 전송을 막고,
@@ -0,0 +1,22 @@
+package com.lab.ups.model;
+
+import com.lab.ups.packet.PacketType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 수신한 UDP 응답 원본
+ * - 스트림 포맷(JSON/COMPACT/BINARY)별 인코딩은 SseHub 에서 필요할 때만 수행
+ */
+@Getter
+@AllArgsConstructor
+public class UdpRxPacket {
+
+    private final Instant receivedAt;
+    private final String srcIp;
+    private final int srcPort;
+    private final byte[] payload;
+    private final PacketType type;
+}
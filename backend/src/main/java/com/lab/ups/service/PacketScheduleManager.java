@@ -15,13 +15,8 @@ import java.util.concurrent.*;
 @Component
 public class PacketScheduleManager {
 
-    private final ScheduledExecutorService executor =
-            Executors.newScheduledThreadPool(2, r -> {
-                Thread t = new Thread(r);
-                t.setName("ups-scheduler");
-                t.setDaemon(true);
-                return t;
-            });
+    // 첫 세션 start 시점에 생성 (세션 없이 부팅만 한 상태에서는 스레드 없음)
+    private ScheduledExecutorService executor;
 
     private final DatagramUdpSender udpSender;
     private final PacketFactory packetFactory;
@@ -39,20 +34,23 @@ public class PacketScheduleManager {
      * - A: (기본) 즉시(0초) 시작, 75초 주기
      * - B: 5초 지연 후 시작, 60초 주기
      *
+     * - 전송 설정은 매 전송 시점에 status 에서 읽으므로,
+     *   status.updateConfig() 로 바꾸면 스케줄 위상(A/B 타이밍) 유지한 채 다음 전송부터 반영
+     *
      * @param skipImmediateA true면 A는 즉시 1회 전송하지 않고, 75초 후부터 시작
      */
-    public synchronized void start(TransmissionConfig cfg, TransmissionStatus status, boolean skipImmediateA) {
+    public synchronized void start(TransmissionStatus status, boolean skipImmediateA) {
         stop();
 
         long initialDelayA = skipImmediateA ? 75 : 0;
 
-        futureA = executor.scheduleAtFixedRate(
-                () -> send(PacketType.A, cfg, status),
+        futureA = executor().scheduleAtFixedRate(
+                () -> send(PacketType.A, status),
                 initialDelayA, 75, TimeUnit.SECONDS
         );
 
-        futureB = executor.scheduleAtFixedRate(
-                () -> send(PacketType.B, cfg, status),
+        futureB = executor().scheduleAtFixedRate(
+                () -> send(PacketType.B, status),
                 5, 60, TimeUnit.SECONDS
         );
 
@@ -60,8 +58,8 @@ public class PacketScheduleManager {
     }
 
     // 기존 호출부 호환용(기본은 즉시 A 전송)
-    public synchronized void start(TransmissionConfig cfg, TransmissionStatus status) {
-        start(cfg, status, false);
+    public synchronized void start(TransmissionStatus status) {
+        start(status, false);
     }
 
     public synchronized void stop() {
@@ -74,9 +72,24 @@ public class PacketScheduleManager {
         log.info("스케줄 중단");
     }
 
-    private void send(PacketType type, TransmissionConfig cfg, TransmissionStatus status) {
+    private ScheduledExecutorService executor() {
+        if (executor == null) {
+            executor = Executors.newScheduledThreadPool(2, r -> {
+                Thread t = new Thread(r);
+                t.setName("ups-scheduler");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return executor;
+    }
+
+    private void send(PacketType type, TransmissionStatus status) {
         if (!status.isRunning()) return;
 
+        // 전송 1회 동안은 같은 설정 사용 (도중에 교체되어도 섞이지 않도록 한 번만 읽음)
+        TransmissionConfig cfg = status.getConfig();
+
         OffsetDateTime now = OffsetDateTime.now();
         byte[] payload = packetFactory.build(type, cfg, now);
 
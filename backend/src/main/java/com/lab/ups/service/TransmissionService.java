@@ -1,27 +1,36 @@
 package com.lab.ups.service;
 
+import com.lab.ups.analytics.TrafficAnalytics;
 import com.lab.ups.dto.StartRequestDto;
 import com.lab.ups.dto.StartResponseDto;
-import com.lab.ups.dto.UdpRxEventDto;
 import com.lab.ups.model.TransmissionConfig;
 import com.lab.ups.model.TransmissionStatus;
+import com.lab.ups.model.UdpRxPacket;
 import com.lab.ups.packet.PacketType;
 import com.lab.ups.sse.SseHub;
+import com.lab.ups.sse.UdpRxEventEncoder;
 import com.lab.ups.udp.DatagramUdpReceiver;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Instant;
 import java.time.OffsetDateTime;
 
 @Slf4j
 @Service
 public class TransmissionService {
 
+    // srcPort 변경 시 이전 포트로 늦게 도착하는 응답을 받기 위해 유지하는 시간
+    private static final long REBIND_OVERLAP_MILLIS = 5_000;
+
     private final TransmissionStatus status = new TransmissionStatus();
 
     private final PacketScheduleManager scheduleManager;
     private final DatagramUdpReceiver receiver;
     private final SseHub sseHub;
+    private final TrafficAnalytics trafficAnalytics;
 
     private static PacketType detectType(byte[] payload) {
         /**
@@ -32,10 +41,11 @@ public class TransmissionService {
          */
     }
 
-    public TransmissionService(PacketScheduleManager scheduleManager, DatagramUdpReceiver receiver, SseHub sseHub) {
+    public TransmissionService(PacketScheduleManager scheduleManager, DatagramUdpReceiver receiver, SseHub sseHub, TrafficAnalytics trafficAnalytics) {
         this.scheduleManager = scheduleManager;
         this.receiver = receiver;
         this.sseHub = sseHub;
+        this.trafficAnalytics = trafficAnalytics;
     }
 
     public TransmissionStatus getStatus() {
@@ -63,40 +73,115 @@ public class TransmissionService {
 
         // 응답 들어올 때마다 SSE로 푸시
         receiver.setOnReceive((bytes, srcIp, srcPort) -> {
-            String hex = toHex(bytes);
             PacketType type = detectType(bytes);
 
-            UdpRxEventDto event = UdpRxEventDto.builder()
-                    .receivedAt(OffsetDateTime.now())
-                    .srcIp(srcIp)
-                    .srcPort(srcPort)
-                    .bytes(bytes != null ? bytes.length : 0)
-                    .hex(hex)
-                    .type(type)
-                    .build();
+            UdpRxPacket packet = new UdpRxPacket(Instant.now(), srcIp, srcPort, bytes, type);
+
+            // 포맷별 인코딩(HEX/base64/바이너리)은 SseHub 에서 구독자 포맷에 맞춰 수행
+            sseHub.broadcast(packet);
 
-            sseHub.broadcast(event);
+            // 윈도우별 통계 (고유 송신자 / 상위 송신자 / 크기 분포)
+            // 통계 오류가 수신/스트림에 영향 주지 않도록 분리
+            try {
+                trafficAnalytics.record(packet);
+            } catch (Exception e) {
+                log.warn("수신 통계 기록 실패", e);
+            }
 
-            log.info("UDP RX from {}:{} bytes={}", srcIp, srcPort, bytes.length);
-            log.info("응답: {}", hex);
+            log.info("UDP RX from {}:{} bytes={} type={}", srcIp, srcPort, bytes.length, type);
+            if (log.isDebugEnabled()) {
+                log.debug("응답: {}", UdpRxEventEncoder.toHex(bytes));
+            }
         });
 
         // 주기 전송 시작
-        scheduleManager.start(cfg, status);
+        scheduleManager.start(status);
 
         return new StartResponseDto(true, now);
     }
 
+    /**
+     * 클러스터 모드용 start
+     * - 한 노드는 세션 1개만 운용하므로, 다른 siteId 세션이 실행 중이면 교체하지 않고 409
+     * - 같은 siteId 면 기존 start 와 동일하게 재시작
+     */
+    public synchronized StartResponseDto startExclusive(StartRequestDto req) {
+        TransmissionConfig cur = status.getConfig();
+        if (status.isRunning() && cur != null && !cur.getSiteId().equals(req.getSiteId())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "다른 siteId 세션 실행 중: " + cur.getSiteId());
+        }
+        return start(req);
+    }
+
+    /**
+     * 실행 중 세션 설정 교체 (무중단)
+     * - 스케줄(A/B 위상)과 수신 소켓은 그대로 두고 설정만 교체 → 다음 전송부터 반영
+     * - srcPort 가 바뀐 경우에만 수신 소켓 rebind (이전 포트는 overlap 동안 계속 수신)
+     *
+     * @param currentSiteId 변경 대상 세션의 현재 siteId
+     *                      - 지정하면 실행 중인 세션의 siteId 와 같아야 함 (다르거나 실행 중이 아니면 409)
+     *                      - null 이면 로컬 세션 대상, 실행 중이 아니면 start 와 동일
+     */
+    public synchronized StartResponseDto update(StartRequestDto req, String currentSiteId) {
+        if (currentSiteId != null) requireSession(currentSiteId);
+
+        TransmissionConfig prev = status.getConfig();
+        if (!status.isRunning() || prev == null) {
+            return start(req);
+        }
+
+        TransmissionConfig cfg = new TransmissionConfig(
+                req.getDstIp(),
+                req.getDstPort(),
+                req.getSrcPort(),
+                req.getSiteId()
+        );
+
+        // 새 srcPort 로 보내기 전에 새 포트 수신부터 열어둠 (바인딩 실패 시 설정 변경 없이 예외)
+        if (cfg.getSrcPort() != prev.getSrcPort()) {
+            receiver.rebind(cfg.getSrcPort(), REBIND_OVERLAP_MILLIS);
+        }
+
+        status.updateConfig(cfg);
+
+        log.info("설정 교체: {}:{} (Src Port={}, siteId={}) -> {}:{} (Src Port={}, siteId={})",
+                prev.getDstIp(), prev.getDstPort(), prev.getSrcPort(), prev.getSiteId(),
+                cfg.getDstIp(), cfg.getDstPort(), cfg.getSrcPort(), cfg.getSiteId());
+
+        return new StartResponseDto(true, status.getStartedAt());
+    }
+
+    // siteId 세션이 실행 중인지 확인 (아니면 409)
+    public synchronized void requireSession(String siteId) {
+        TransmissionConfig cur = status.getConfig();
+        if (!status.isRunning() || cur == null || !cur.getSiteId().equals(siteId)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "siteId=" + siteId + " 세션이 이 노드에서 실행 중이 아닙니다.");
+        }
+    }
+
+    // siteId 세션이 이 노드에서 실행 중인지
+    public synchronized boolean isRunning(String siteId) {
+        TransmissionConfig cur = status.getConfig();
+        return status.isRunning() && cur != null && cur.getSiteId().equals(siteId);
+    }
+
+    // siteId 세션 중단 (실행 중인 세션이 다른 siteId 거나 없으면 409)
+    public synchronized void stopSession(String siteId) {
+        requireSession(siteId);
+        stop();
+    }
+
+    // 지정한 siteId 세션일 때만 중단 (다른 세션은 건드리지 않음)
+    public synchronized void stop(String siteId) {
+        TransmissionConfig cur = status.getConfig();
+        if (status.isRunning() && cur != null && cur.getSiteId().equals(siteId)) stop();
+    }
+
     public synchronized void stop() {
         status.stop();
         scheduleManager.stop();
         receiver.stop();
     }
-
-    private static String toHex(byte[] data) {
-        if (data == null) return null;
-        StringBuilder sb = new StringBuilder();
-        for (byte b : data) sb.append(String.format("%02X ", b));
-        return sb.toString().trim();
-    }
 }
\ No newline at end of file
@@ -1,47 +1,191 @@
 package com.lab.ups.sse;
 
-import com.lab.ups.dto.UdpRxEventDto;
+import com.lab.ups.model.UdpRxPacket;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 public class SseHub {
 
-    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    // 배치 간격 상한 / 구독자별 미전송 이벤트 상한 (메모리 고정)
+    public static final long MAX_BATCH_MS = 10_000;
+    private static final int MAX_PENDING = 10_000;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    // 배치 구독자가 처음 생길 때 생성
+    private ScheduledExecutorService flusher;
 
     public SseEmitter connect() {
+        return connect(StreamFormat.JSON, 0);
+    }
+
+    /**
+     * SSE 구독 (JSON / COMPACT)
+     * @param batchMs 0이면 이벤트마다 즉시 전송, 0보다 크면 N ms 동안 모아서 배열 1건으로 전송
+     */
+    public SseEmitter connect(StreamFormat format, long batchMs) {
         // 0L = 타임아웃 없음(필요하면 30분 등으로 바꿔도 됨)
         SseEmitter emitter = new SseEmitter(0L);
 
-        emitters.add(emitter);
-
-        emitter.onCompletion(() -> emitters.remove(emitter));
-        emitter.onTimeout(() -> emitters.remove(emitter));
-        emitter.onError(e -> emitters.remove(emitter));
+        Subscriber sub = register(emitter, format, batchMs);
 
         // 연결 확인용 1회 ping
         try {
             emitter.send(SseEmitter.event().name("ping").data("connected"));
         } catch (IOException e) {
-            emitters.remove(emitter);
+            fail(sub, e);
         }
 
         return emitter;
     }
 
-    public void broadcast(UdpRxEventDto event) {
-        for (SseEmitter emitter : emitters) {
+    // 바이너리 스트림 구독 (length-prefixed 프레임)
+    public ResponseBodyEmitter connectBinary(long batchMs) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(0L);
+        register(emitter, StreamFormat.BINARY, batchMs);
+        return emitter;
+    }
+
+    /**
+     * 수신 이벤트 전파
+     * - 포맷별 인코딩은 해당 포맷 구독자가 있을 때만, broadcast 당 1회 수행
+     */
+    public void broadcast(UdpRxPacket packet) {
+        Object json = null;
+        Object compact = null;
+        byte[] binary = null;
+
+        for (Subscriber sub : subscribers) {
+            if (sub.batchMs > 0) {
+                if (!sub.enqueue(packet)) {
+                    // 이벤트를 조용히 버리지 않고 연결을 끊어서 클라이언트가 재연결하도록 함
+                    log.warn("SSE 구독자가 수신 속도를 따라오지 못해 연결 종료 (format={}, batchMs={}, pending={})",
+                            sub.format, sub.batchMs, MAX_PENDING);
+                    fail(sub, new IllegalStateException("구독자 미전송 이벤트 상한 초과: " + MAX_PENDING));
+                }
+                continue;
+            }
             try {
-                emitter.send(SseEmitter.event().name("udp-rx").data(event));
+                switch (sub.format) {
+                    case JSON -> {
+                        if (json == null) json = UdpRxEventEncoder.toJson(packet);
+                        ((SseEmitter) sub.emitter).send(SseEmitter.event().name("udp-rx").data(json));
+                    }
+                    case COMPACT -> {
+                        if (compact == null) compact = UdpRxEventEncoder.toCompact(packet);
+                        ((SseEmitter) sub.emitter).send(SseEmitter.event().name("udp-rx-c").data(compact));
+                    }
+                    case BINARY -> {
+                        if (binary == null) binary = UdpRxEventEncoder.toBinaryFrame(List.of(packet));
+                        sub.emitter.send(binary, MediaType.APPLICATION_OCTET_STREAM);
+                    }
+                }
             } catch (Exception e) {
-                emitters.remove(emitter);
+                fail(sub, e);
+            }
+        }
+    }
+
+    private Subscriber register(ResponseBodyEmitter emitter, StreamFormat format, long batchMs) {
+        Subscriber sub = new Subscriber(emitter, format, Math.max(0, Math.min(batchMs, MAX_BATCH_MS)));
+
+        subscribers.add(sub);
+
+        emitter.onCompletion(() -> remove(sub));
+        emitter.onTimeout(() -> remove(sub));
+        emitter.onError(e -> remove(sub));
+
+        if (sub.batchMs > 0) {
+            sub.flushTask = flusher().scheduleAtFixedRate(() -> flush(sub), sub.batchMs, sub.batchMs, TimeUnit.MILLISECONDS);
+        }
+        return sub;
+    }
+
+    private void remove(Subscriber sub) {
+        subscribers.remove(sub);
+        if (sub.flushTask != null) sub.flushTask.cancel(false);
+    }
+
+    // 전송 실패 / 상한 초과 → 구독 해제 후 응답도 종료 (연결이 열린 채 남지 않도록)
+    private void fail(Subscriber sub, Exception e) {
+        remove(sub);
+        try {
+            sub.emitter.completeWithError(e);
+        } catch (Exception ignored) {
+            // 이미 종료된 emitter
+        }
+    }
+
+    private void flush(Subscriber sub) {
+        List<UdpRxPacket> batch = sub.drain();
+        if (batch.isEmpty()) return;
+
+        try {
+            switch (sub.format) {
+                case JSON -> ((SseEmitter) sub.emitter).send(SseEmitter.event()
+                        .name("udp-rx-batch")
+                        .data(batch.stream().map(UdpRxEventEncoder::toJson).toList()));
+                case COMPACT -> ((SseEmitter) sub.emitter).send(SseEmitter.event()
+                        .name("udp-rx-c-batch")
+                        .data(batch.stream().map(UdpRxEventEncoder::toCompact).toList()));
+                case BINARY -> sub.emitter.send(UdpRxEventEncoder.toBinaryFrame(batch), MediaType.APPLICATION_OCTET_STREAM);
             }
+        } catch (Exception e) {
+            fail(sub, e);
+        }
+    }
+
+    private synchronized ScheduledExecutorService flusher() {
+        if (flusher == null) {
+            flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r);
+                t.setName("ups-sse-flusher");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return flusher;
+    }
+
+    private static class Subscriber {
+        private final ResponseBodyEmitter emitter;
+        private final StreamFormat format;
+        private final long batchMs;
+
+        private List<UdpRxPacket> pending = new ArrayList<>();
+        private volatile ScheduledFuture<?> flushTask;
+
+        Subscriber(ResponseBodyEmitter emitter, StreamFormat format, long batchMs) {
+            this.emitter = emitter;
+            this.format = format;
+            this.batchMs = batchMs;
+        }
+
+        // 상한에 닿으면 false (클라이언트가 못 따라오는 상태, 메모리 상한 유지)
+        synchronized boolean enqueue(UdpRxPacket packet) {
+            if (pending.size() >= MAX_PENDING) return false;
+            pending.add(packet);
+            return true;
+        }
+
+        synchronized List<UdpRxPacket> drain() {
+            List<UdpRxPacket> out = pending;
+            pending = new ArrayList<>();
+            return out;
         }
     }
 }
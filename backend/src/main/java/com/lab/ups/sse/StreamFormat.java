@@ -0,0 +1,10 @@
+package com.lab.ups.sse;
+
+public enum StreamFormat {
+    // 기존 포맷 (hex payload, ISO 시각) - 기본값
+    JSON,
+    // 축약 키 + base64 payload + epoch micros
+    COMPACT,
+    // 길이 prefix 바이너리 프레임 (/stream/binary)
+    BINARY
+}
@@ -0,0 +1,101 @@
+package com.lab.ups.sse;
+
+import com.lab.ups.dto.UdpRxCompactEventDto;
+import com.lab.ups.dto.UdpRxEventDto;
+import com.lab.ups.model.UdpRxPacket;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 수신 이벤트 포맷별 인코딩
+ *
+ * BINARY 프레임 구조 (big-endian)
+ *   [u32 프레임 길이(이 필드 제외)][u16 레코드 수] + 레코드 * N
+ *   레코드: [i64 epoch micros][u8 type ordinal][u8 addr 길이(4|16)][addr]
+ *          [u16 srcPort][u16 payload 길이][payload]
+ */
+public final class UdpRxEventEncoder {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private UdpRxEventEncoder() {}
+
+    public static UdpRxEventDto toJson(UdpRxPacket pkt) {
+        return UdpRxEventDto.builder()
+                .receivedAt(OffsetDateTime.ofInstant(pkt.getReceivedAt(), ZoneId.systemDefault()))
+                .srcIp(pkt.getSrcIp())
+                .srcPort(pkt.getSrcPort())
+                .bytes(pkt.getPayload() != null ? pkt.getPayload().length : 0)
+                .hex(toHex(pkt.getPayload()))
+                .type(pkt.getType())
+                .build();
+    }
+
+    public static UdpRxCompactEventDto toCompact(UdpRxPacket pkt) {
+        return UdpRxCompactEventDto.builder()
+                .t(epochMicros(pkt.getReceivedAt()))
+                .ip(pkt.getSrcIp())
+                .p(pkt.getSrcPort())
+                .d(pkt.getPayload() != null ? Base64.getEncoder().encodeToString(pkt.getPayload()) : "")
+                .k(pkt.getType())
+                .build();
+    }
+
+    public static byte[] toBinaryFrame(List<UdpRxPacket> packets) {
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(body);
+
+            out.writeShort(packets.size());
+            for (UdpRxPacket pkt : packets) {
+                byte[] addr = InetAddress.getByName(pkt.getSrcIp()).getAddress(); // IP 리터럴이므로 DNS 조회 없음
+                byte[] payload = pkt.getPayload() != null ? pkt.getPayload() : new byte[0];
+
+                out.writeLong(epochMicros(pkt.getReceivedAt()));
+                out.writeByte(pkt.getType().ordinal());
+                out.writeByte(addr.length);
+                out.write(addr);
+                out.writeShort(pkt.getSrcPort());
+                out.writeShort(payload.length);
+                out.write(payload);
+            }
+            out.flush();
+
+            ByteArrayOutputStream frame = new ByteArrayOutputStream(body.size() + 4);
+            new DataOutputStream(frame).writeInt(body.size());
+            body.writeTo(frame);
+            return frame.toByteArray();
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("바이너리 프레임 인코딩 실패", e);
+        }
+    }
+
+    // 공백 구분 대문자 HEX (기존 포맷 유지, String.format 없이 변환)
+    public static String toHex(byte[] data) {
+        if (data == null) return null;
+        if (data.length == 0) return "";
+
+        char[] out = new char[data.length * 3 - 1];
+        for (int i = 0, j = 0; i < data.length; i++) {
+            if (i > 0) out[j++] = ' ';
+            out[j++] = HEX[(data[i] >> 4) & 0x0F];
+            out[j++] = HEX[data[i] & 0x0F];
+        }
+        return new String(out);
+    }
+
+    private static long epochMicros(Instant t) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, t);
+    }
+}
@@ -7,14 +7,20 @@ import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.InetSocketAddress;
 import java.net.SocketTimeoutException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 public class DatagramUdpReceiver {
 
-    private DatagramSocket socket;
-    private Thread thread;
-    private volatile boolean running = false;
+    // 현재 수신 중인 소켓 / rebind 후 overlap 동안 유지 중인 이전 소켓
+    private Binding active;
+    private Binding draining;
+
+    // overlap 이 끝난 이전 소켓 정리용 (첫 rebind 시점에 생성)
+    private ScheduledExecutorService drainer;
 
     // payload만 받던 Consumer<byte[]> 대신, 송신자 정보까지 받는 핸들러 추가
     @FunctionalInterface
@@ -22,8 +28,8 @@ public class DatagramUdpReceiver {
         void onReceive(byte[] payload, String fromIp, int fromPort);
     }
 
-    // 기본 no-op 핸들러
-    private UdpReceiveHandler onReceive = (payload, ip, port) -> {};
+    // 기본 no-op 핸들러 (수신 스레드에서 읽으므로 volatile)
+    private volatile UdpReceiveHandler onReceive = (payload, ip, port) -> {};
 
     // setter도 새 시그니처로 변경
     public void setOnReceive(UdpReceiveHandler onReceive) {
@@ -31,55 +37,112 @@ public class DatagramUdpReceiver {
     }
 
     public synchronized void start(int bindPort) {
-        if (running) return;
+        if (active != null) return;
+
+        active = open(bindPort);
+
+        log.info("UDP Receiver started. bindPort={}", bindPort);
+    }
+
+    /**
+     * 수신 포트 변경 (무중단)
+     * - 새 포트 소켓을 먼저 열고, 이전 소켓은 overlapMillis 동안 계속 수신 후 닫음
+     *   → 이전 srcPort 로 보낸 요청의 늦은 응답도 놓치지 않음
+     * - 같은 포트면 아무것도 하지 않음
+     */
+    public synchronized void rebind(int bindPort, long overlapMillis) {
+        if (active == null) {
+            start(bindPort);
+            return;
+        }
+        if (active.port == bindPort) return;
+
+        // 새 소켓을 먼저 바인딩 (SO_REUSEADDR 이므로 overlap 중인 같은 포트로 되돌아가는 경우도 가능)
+        // 실패 시 예외 → 기존 소켓 / overlap 중인 소켓 모두 그대로 유지
+        Binding next = open(bindPort);
+
+        // 바인딩 성공 후에만 직전 rebind 의 overlap 소켓 정리
+        if (draining != null) draining.close();
+
+        Binding prev = active;
+        draining = prev;
+        active = next;
+
+        drainer().schedule(() -> closeDraining(prev), overlapMillis, TimeUnit.MILLISECONDS);
+
+        log.info("UDP Receiver rebind. {} -> {} (overlap={}ms)", prev.port, bindPort, overlapMillis);
+    }
+
+    public synchronized void stop() {
+        if (active != null) active.close();
+        if (draining != null) draining.close();
+
+        active = null;
+        draining = null;
+
+        log.info("UDP Receiver stopped.");
+    }
+
+    // 테스트용: 현재 수신 포트 / overlap 중인 이전 포트 (없으면 null)
+    synchronized Integer activePort() {
+        return (active != null) ? active.port : null;
+    }
+
+    synchronized Integer drainingPort() {
+        return (draining != null) ? draining.port : null;
+    }
+
+    private ScheduledExecutorService drainer() {
+        if (drainer == null) {
+            drainer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r);
+                t.setName("ups-udp-receiver-drain");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return drainer;
+    }
+
+    private synchronized void closeDraining(Binding b) {
+        // stop() 이나 다음 rebind 에서 이미 닫힌 소켓이면 무시
+        if (!b.running) return;
+
+        b.close();
+        if (draining == b) draining = null;
+
+        log.info("UDP Receiver 이전 포트 수신 종료. port={}", b.port);
+    }
 
+    private Binding open(int bindPort) {
+        DatagramSocket socket = null;
         try {
             socket = new DatagramSocket(null);
             socket.setReuseAddress(true);
             socket.bind(new InetSocketAddress(bindPort));
             socket.setSoTimeout(1000);
 
-            running = true;
+            Binding b = new Binding(bindPort, socket);
 
-            thread = new Thread(this::runLoop, "ups-udp-receiver");
-            thread.setDaemon(true);
-            thread.start();
+            b.thread = new Thread(() -> runLoop(b), "ups-udp-receiver-" + bindPort);
+            b.thread.setDaemon(true);
+            b.thread.start();
 
-            log.info("UDP Receiver started. bindPort={}", bindPort);
+            return b;
         } catch (Exception e) {
-            running = false;
+            if (socket != null) socket.close();
             throw new RuntimeException("UDP Receiver start 실패", e);
         }
     }
 
-    public synchronized void stop() {
-        running = false;
-
-        if (socket != null) {
-            try {
-                socket.close();
-            } catch (Exception ignored) {}
-        }
-        socket = null;
-
-        if (thread != null) {
-            try {
-                thread.interrupt();
-            } catch (Exception ignored) {}
-        }
-        thread = null;
-
-        log.info("UDP Receiver stopped.");
-    }
-
-    private void runLoop() {
+    private void runLoop(Binding b) {
         // 수신 버퍼
         byte[] buf = new byte[2048];
 
-        while (running) {
+        while (b.running) {
             try {
                 DatagramPacket packet = new DatagramPacket(buf, buf.length);
-                socket.receive(packet);
+                b.socket.receive(packet);
 
                 // payload만 정확히 복사
                 int len = packet.getLength();
@@ -98,11 +161,38 @@ public class DatagramUdpReceiver {
             } catch (SocketTimeoutException e) {
                 // 타임아웃은 정상 (running 체크하며 반복)
             } catch (Exception e) {
-                if (running) {
+                if (b.running) {
                     log.warn("UDP Receiver error", e);
                 }
                 // socket.close()로 깨진 경우는 stop 과정일 수 있음
             }
         }
     }
-}
\ No newline at end of file
+
+    // 바인딩된 소켓 1개 + 수신 스레드
+    private static class Binding {
+        private final int port;
+        private final DatagramSocket socket;
+        private Thread thread;
+        private volatile boolean running = true;
+
+        Binding(int port, DatagramSocket socket) {
+            this.port = port;
+            this.socket = socket;
+        }
+
+        void close() {
+            running = false;
+
+            try {
+                socket.close();
+            } catch (Exception ignored) {}
+
+            if (thread != null) {
+                try {
+                    thread.interrupt();
+                } catch (Exception ignored) {}
+            }
+        }
+    }
+}
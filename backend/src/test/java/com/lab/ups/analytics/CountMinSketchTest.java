@@ -0,0 +1,39 @@
+package com.lab.ups.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CountMinSketchTest {
+
+	@Test
+	void neverUnderCounts() {
+		// 충돌이 많도록 폭을 작게
+		CountMinSketch cms = new CountMinSketch(4, 256);
+		Map<String, Long> exact = new HashMap<>();
+		Random random = new Random(1);
+
+		for (int i = 0; i < 50_000; i++) {
+			String key = "k" + random.nextInt(5_000);
+			long actual = exact.merge(key, 1L, Long::sum);
+			long estimate = cms.add(Hashing.hash(key));
+
+			assertTrue(estimate >= actual, key + " estimate=" + estimate + " actual=" + actual);
+		}
+	}
+
+	@Test
+	void exactWithoutCollisions() {
+		CountMinSketch cms = new CountMinSketch(4, 2048);
+
+		long last = 0;
+		for (int i = 0; i < 100; i++) last = cms.add(Hashing.hash("only"));
+
+		assertEquals(100, last);
+	}
+}
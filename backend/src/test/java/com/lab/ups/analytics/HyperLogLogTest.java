@@ -0,0 +1,49 @@
+package com.lab.ups.analytics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HyperLogLogTest {
+
+	private static final int P = 12;
+
+	// 표준오차 1.04 / sqrt(m)
+	private static final double SIGMA = 1.04 / Math.sqrt(1 << P);
+
+	@Test
+	void emptyIsZero() {
+		assertEquals(0, new HyperLogLog(P).estimate());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {100, 1_000, 5_000, 20_000, 50_000, 200_000})
+	void estimateWithinThreeSigma(int n) {
+		HyperLogLog hll = new HyperLogLog(P);
+		for (int i = 0; i < n; i++) {
+			hll.add(Hashing.hash(source(i)));
+		}
+
+		double error = Math.abs(hll.estimate() - n) / (double) n;
+		assertTrue(error <= 3 * SIGMA, "n=" + n + " estimate=" + hll.estimate());
+	}
+
+	@Test
+	void duplicatesDoNotIncreaseEstimate() {
+		HyperLogLog hll = new HyperLogLog(P);
+		for (int round = 0; round < 10; round++) {
+			for (int i = 0; i < 1_000; i++) hll.add(Hashing.hash(source(i)));
+		}
+
+		double error = Math.abs(hll.estimate() - 1_000) / 1_000.0;
+		assertTrue(error <= 3 * SIGMA, "estimate=" + hll.estimate());
+	}
+
+	// 서로 다른 ip:port 송신자
+	private static String source(int i) {
+		return "10." + (i >> 16) + "." + ((i >> 8) & 0xFF) + "." + (i & 0xFF) + ":" + (40000 + i % 1000);
+	}
+}
@@ -0,0 +1,47 @@
+package com.lab.ups.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpaceSavingTopKTest {
+
+	@Test
+	void topContainsHeavyHitters() {
+		SpaceSavingTopK topK = new SpaceSavingTopK(20);
+		CountMinSketch cms = new CountMinSketch(4, 2048);
+		Random random = new Random(7);
+
+		// heavy-1 10%, heavy-2 8%, heavy-3 6%, 나머지는 2만 개 키에 고르게 분산
+		for (int i = 0; i < 100_000; i++) {
+			int x = random.nextInt(100);
+			String key = (x < 10) ? "heavy-1"
+					: (x < 18) ? "heavy-2"
+					: (x < 24) ? "heavy-3"
+					: "tail-" + random.nextInt(20_000);
+			topK.offer(key, cms.add(Hashing.hash(key)));
+		}
+
+		List<Map.Entry<String, Long>> top = topK.top(3);
+
+		assertEquals(3, top.size());
+		assertEquals("heavy-1", top.get(0).getKey());
+		assertEquals("heavy-2", top.get(1).getKey());
+		assertEquals("heavy-3", top.get(2).getKey());
+		assertTrue(top.get(0).getValue() >= 9_000, "heavy-1=" + top.get(0).getValue());
+	}
+
+	@Test
+	void topIsLimitedToTrackedCandidates() {
+		SpaceSavingTopK topK = new SpaceSavingTopK(5);
+		topK.offer("a", 1);
+		topK.offer("b", 1);
+
+		assertEquals(2, topK.top(10).size());
+	}
+}
@@ -0,0 +1,43 @@
+package com.lab.ups.analytics;
+
+import com.lab.ups.dto.TrafficWindowDto;
+import com.lab.ups.model.UdpRxPacket;
+import com.lab.ups.packet.PacketType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TrafficAnalyticsTest {
+
+	@Test
+	void closedWindowsAreKeptAsSnapshotsNewestFirst() {
+		AnalyticsProperties props = new AnalyticsProperties();
+		props.setRetainedWindows(2);
+		TrafficAnalytics analytics = new TrafficAnalytics(props);
+
+		// 60초 윈도우 3개에 각각 1, 2, 3건
+		for (int w = 0; w < 3; w++) {
+			for (int i = 0; i <= w; i++) {
+				analytics.record(packet(Instant.EPOCH.plusSeconds(w * 60L + i)));
+			}
+		}
+
+		// 현재(실제 시각) 기준으로 마지막 윈도우도 닫힘 → 최근 2개만 유지
+		List<TrafficWindowDto> completed = analytics.completed();
+		assertEquals(2, completed.size());
+		assertEquals(3, completed.get(0).getPackets());
+		assertEquals(2, completed.get(1).getPackets());
+		assertEquals(Instant.EPOCH.plusSeconds(120), completed.get(0).getWindowStart().toInstant());
+
+		// 새 윈도우가 닫히기 전까지는 같은 스냅샷 목록 재사용
+		assertSame(completed, analytics.completed());
+	}
+
+	private static UdpRxPacket packet(Instant at) {
+		return new UdpRxPacket(at, "10.0.0.1", 40000, new byte[8], PacketType.A);
+	}
+}
@@ -0,0 +1,49 @@
+package com.lab.ups.analytics;
+
+import com.lab.ups.dto.TrafficWindowDto;
+import com.lab.ups.packet.PacketType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TrafficWindowTest {
+
+	@Test
+	void sizeBucketBoundaries() {
+		assertEquals(0, TrafficWindow.sizeBucket(0));
+		assertEquals(1, TrafficWindow.sizeBucket(1));
+		assertEquals(2, TrafficWindow.sizeBucket(2));
+		assertEquals(2, TrafficWindow.sizeBucket(3));
+		assertEquals(11, TrafficWindow.sizeBucket(1024));
+		assertEquals(11, TrafficWindow.sizeBucket(2047));
+		assertEquals(12, TrafficWindow.sizeBucket(2048));
+		assertEquals(12, TrafficWindow.sizeBucket(65535));
+	}
+
+	@Test
+	void snapshotHistogramRanges() {
+		TrafficWindow window = new TrafficWindow(Instant.EPOCH, Instant.EPOCH.plusSeconds(60), new AnalyticsProperties());
+		window.record("10.0.0.1", 40000, 0, PacketType.A);
+		window.record("10.0.0.1", 40000, 2047, PacketType.B);
+		window.record("10.0.0.2", 40000, 2048, PacketType.UNKNOWN);
+
+		TrafficWindowDto dto = window.snapshot(10);
+		List<TrafficWindowDto.SizeBucket> histogram = dto.getSizeHistogram();
+
+		assertEquals(13, histogram.size());
+		assertEquals(0, histogram.get(0).getMaxBytes());
+		assertEquals(1, histogram.get(0).getCount());
+		assertEquals(1024, histogram.get(11).getMinBytes());
+		assertEquals(2047, histogram.get(11).getMaxBytes());
+		assertEquals(1, histogram.get(11).getCount());
+		assertEquals(2048, histogram.get(12).getMinBytes());
+		assertEquals(1, histogram.get(12).getCount());
+
+		assertEquals(3, dto.getPackets());
+		assertEquals(2, dto.getDistinctSources());
+		assertEquals("10.0.0.2:40000", dto.getTopUnknownSources().get(0).getKey());
+	}
+}
@@ -0,0 +1,189 @@
+package com.lab.ups.cluster;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClusterMembershipTest {
+
+	private static final ClusterNode N1 = new ClusterNode("node-1", "http://n1");
+	private static final ClusterNode N2 = new ClusterNode("node-2", "http://n2");
+	private static final ClusterNode N3 = new ClusterNode("node-3", "http://n3");
+
+	private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+	private final List<Object> events = new ArrayList<>();
+	private StubClient client;
+	private ClusterMembership membership;
+
+	@BeforeEach
+	void setUp() {
+		ClusterProperties props = new ClusterProperties();
+		props.setEnabled(true);
+		props.setSelfId(N1.getId());
+		props.setSelfUrl(N1.getUrl());
+		props.setPeers(List.of(N2, N3));
+		props.setEvictAfterMisses(3);
+		props.setTakeoverGraceSeconds(30);
+
+		client = new StubClient(props);
+		membership = new ClusterMembership(props, new StaticNodeDiscovery(props), client, events::add);
+		at(T0);
+	}
+
+	@Test
+	void peerStaysInRingUntilEvictAfterMisses() {
+		client.up(N2, running(N2, "site-a"));
+		client.up(N3, idle(N3));
+		membership.probe();
+		assertEquals(List.of(N1, N2, N3), membership.getRing().getNodes());
+
+		client.down(N2);
+		membership.probe();
+		membership.probe();
+		assertTrue(membership.getRing().getNodes().contains(N2));
+		assertTrue(probedEvents().stream().skip(1).noneMatch(ClusterProbedEvent::isTopologyChanged));
+
+		membership.probe();
+		assertEquals(List.of(N1, N3), membership.getRing().getNodes());
+		assertTrue(lastProbedEvent().isTopologyChanged());
+	}
+
+	@Test
+	void orphanPublishedOnlyAfterGracePeriod() {
+		client.up(N2, running(N2, "site-a"));
+		client.up(N3, idle(N3));
+		membership.probe();
+		evict(N2);
+
+		at(T0.plusSeconds(29));
+		membership.probe();
+		assertTrue(orphanEvents().isEmpty());
+
+		at(T0.plusSeconds(30));
+		membership.probe();
+		assertEquals(1, orphanEvents().size());
+		assertEquals("site-a", orphanEvents().get(0).getSessions().get(0).getSiteId());
+
+		// 인수 전까지는 매 주기 다시 발행, resolve 후에는 발행하지 않음
+		membership.probe();
+		assertEquals(2, orphanEvents().size());
+
+		membership.resolveOrphan(N2.getId());
+		membership.probe();
+		assertEquals(2, orphanEvents().size());
+	}
+
+	@Test
+	void returningNodeKeepsItsSession() {
+		client.up(N2, running(N2, "site-a"));
+		client.up(N3, idle(N3));
+		membership.probe();
+		evict(N2);
+
+		client.up(N2, running(N2, "site-a"));
+		membership.probe();
+
+		at(T0.plusSeconds(60));
+		membership.probe();
+		assertTrue(orphanEvents().isEmpty());
+	}
+
+	@Test
+	void siteRunningOnAnotherPeerIsNotOrphaned() {
+		client.up(N2, running(N2, "site-a"));
+		client.up(N3, running(N3, "site-a"));
+		membership.probe();
+		evict(N2);
+
+		at(T0.plusSeconds(60));
+		membership.probe();
+		assertTrue(orphanEvents().isEmpty());
+	}
+
+	@Test
+	void locatePrefersPeerRunningTheSite() {
+		client.up(N2, idle(N2));
+		client.up(N3, running(N3, "site-a"));
+		membership.probe();
+
+		assertEquals(N3, membership.locate("site-a"));
+		assertEquals(membership.remoteOwnerOf("site-b"), membership.locate("site-b"));
+		assertNull(membership.locate(null));
+	}
+
+	private void evict(ClusterNode node) {
+		client.down(node);
+		for (int i = 0; i < 3; i++) membership.probe();
+	}
+
+	private void at(Instant now) {
+		membership.clock = Clock.fixed(now, ZoneOffset.UTC);
+	}
+
+	private List<ClusterProbedEvent> probedEvents() {
+		return events.stream().filter(ClusterProbedEvent.class::isInstance).map(ClusterProbedEvent.class::cast).toList();
+	}
+
+	private ClusterProbedEvent lastProbedEvent() {
+		List<ClusterProbedEvent> probed = probedEvents();
+		return probed.get(probed.size() - 1);
+	}
+
+	private List<OrphanedSessionsEvent> orphanEvents() {
+		return events.stream().filter(OrphanedSessionsEvent.class::isInstance).map(OrphanedSessionsEvent.class::cast).toList();
+	}
+
+	private static NodeStatusDto running(ClusterNode node, String siteId) {
+		NodeStatusDto st = new NodeStatusDto();
+		st.setNodeId(node.getId());
+		st.setRunning(true);
+		st.setDstIp("127.0.0.1");
+		st.setDstPort(9000);
+		st.setSrcPort(9001);
+		st.setSiteId(siteId);
+		return st;
+	}
+
+	private static NodeStatusDto idle(ClusterNode node) {
+		NodeStatusDto st = new NodeStatusDto();
+		st.setNodeId(node.getId());
+		return st;
+	}
+
+	// probe 응답을 테스트에서 지정 (등록되지 않은 노드는 연결 실패)
+	private static class StubClient extends ClusterClient {
+
+		private final Map<String, NodeStatusDto> statuses = new HashMap<>();
+
+		StubClient(ClusterProperties props) {
+			super(props);
+		}
+
+		void up(ClusterNode node, NodeStatusDto status) {
+			statuses.put(node.getId(), status);
+		}
+
+		void down(ClusterNode node) {
+			statuses.remove(node.getId());
+		}
+
+		@Override
+		public NodeStatusDto fetchLocalStatus(ClusterNode node) {
+			NodeStatusDto st = statuses.get(node.getId());
+			if (st == null) throw new IllegalStateException("connection refused: " + node.getId());
+			return st;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.lab.ups.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsistentHashRingTest {
+
+	private static final ClusterNode N1 = new ClusterNode("node-1", "http://n1");
+	private static final ClusterNode N2 = new ClusterNode("node-2", "http://n2");
+	private static final ClusterNode N3 = new ClusterNode("node-3", "http://n3");
+
+	@Test
+	void sameKeySameOwnerRegardlessOfNodeOrder() {
+		ConsistentHashRing a = new ConsistentHashRing(List.of(N1, N2, N3), 128);
+		ConsistentHashRing b = new ConsistentHashRing(List.of(N3, N1, N2), 128);
+
+		for (int i = 0; i < 1000; i++) {
+			String key = "site-" + i;
+			assertEquals(a.ownerOf(key), a.ownerOf(key));
+			assertEquals(a.ownerOf(key), b.ownerOf(key));
+		}
+	}
+
+	@Test
+	void removingNodeMovesOnlyItsKeys() {
+		ConsistentHashRing full = new ConsistentHashRing(List.of(N1, N2, N3), 128);
+		ConsistentHashRing reduced = new ConsistentHashRing(List.of(N1, N2), 128);
+
+		int moved = 0;
+		for (int i = 0; i < 1000; i++) {
+			String key = "site-" + i;
+			ClusterNode before = full.ownerOf(key);
+			ClusterNode after = reduced.ownerOf(key);
+
+			if (before.equals(N3)) {
+				assertNotEquals(N3, after);
+				moved++;
+			} else {
+				assertEquals(before, after, key);
+			}
+		}
+		// 3노드 중 1개 제거 → 대략 1/3 이동
+		assertTrue(moved > 200 && moved < 470, "moved=" + moved);
+	}
+
+	@Test
+	void keyAfterLastVirtualNodeWrapsToFirst() {
+		// 노드당 가상 노드 1개 → 링 위치를 직접 계산할 수 있음
+		ConsistentHashRing ring = new ConsistentHashRing(List.of(N1, N2), 1);
+
+		long h1 = ConsistentHashRing.hash(N1.getId() + "#0");
+		long h2 = ConsistentHashRing.hash(N2.getId() + "#0");
+		long last = Math.max(h1, h2);
+		ClusterNode first = (h1 < h2) ? N1 : N2;
+
+		String key = null;
+		for (int i = 0; key == null; i++) {
+			if (ConsistentHashRing.hash("site-" + i) > last) key = "site-" + i;
+		}
+
+		assertEquals(first, ring.ownerOf(key));
+	}
+
+	@Test
+	void emptyRingHasNoOwner() {
+		assertNull(new ConsistentHashRing(List.of(), 128).ownerOf("site-1"));
+	}
+}
@@ -0,0 +1,27 @@
+package com.lab.ups.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StaticNodeDiscoveryTest {
+
+	@Test
+	void selfListedInPeersIsNotDuplicated() {
+		ClusterProperties props = new ClusterProperties();
+		props.setSelfId("node-1");
+		props.setSelfUrl("http://n1");
+		props.setPeers(List.of(
+				new ClusterNode("node-1", "http://n1"),
+				new ClusterNode("node-2", "http://n2")
+		));
+
+		List<ClusterNode> members = new StaticNodeDiscovery(props).members();
+
+		assertEquals(2, members.size());
+		assertEquals("node-1", members.get(0).getId());
+		assertEquals("node-2", members.get(1).getId());
+	}
+}
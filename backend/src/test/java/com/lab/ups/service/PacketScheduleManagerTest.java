@@ -0,0 +1,71 @@
+package com.lab.ups.service;
+
+import com.lab.ups.model.TransmissionConfig;
+import com.lab.ups.model.TransmissionStatus;
+import com.lab.ups.packet.PacketFactory;
+import com.lab.ups.packet.PacketType;
+import com.lab.ups.udp.DatagramUdpSender;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PacketScheduleManagerTest {
+
+	@Test
+	void nextSendUsesSwappedConfigWithoutRescheduling() throws Exception {
+		RecordingSender sender = new RecordingSender();
+		PacketScheduleManager manager = new PacketScheduleManager(sender, new StubPacketFactory());
+
+		TransmissionStatus status = new TransmissionStatus();
+		status.start(new TransmissionConfig("127.0.0.1", 9000, 9001, "site-a"), OffsetDateTime.now());
+
+		try {
+			manager.start(status);
+
+			// A 는 start 직후 이전 설정으로 전송
+			Sent a = sender.sent.poll(2, TimeUnit.SECONDS);
+			assertNotNull(a);
+			assertEquals(PacketType.A, a.type);
+			assertEquals(9000, a.dstPort);
+
+			status.updateConfig(new TransmissionConfig("127.0.0.1", 9100, 9101, "site-a"));
+
+			// 스케줄은 그대로 → A 를 다시 보내지 않고, 5초 위상의 B 가 새 설정으로 나감
+			Sent b = sender.sent.poll(7, TimeUnit.SECONDS);
+			assertNotNull(b);
+			assertEquals(PacketType.B, b.type);
+			assertEquals(9100, b.dstPort);
+			assertEquals(9101, b.srcPort);
+			assertNull(sender.sent.poll(200, TimeUnit.MILLISECONDS));
+		} finally {
+			manager.stop();
+		}
+	}
+
+	private record Sent(PacketType type, int dstPort, int srcPort) {}
+
+	private static class RecordingSender extends DatagramUdpSender {
+
+		private final BlockingQueue<Sent> sent = new LinkedBlockingQueue<>();
+
+		@Override
+		public void send(PacketType type, String dstIp, int dstPort, int srcPort, byte[] payload) {
+			sent.add(new Sent(type, dstPort, srcPort));
+		}
+	}
+
+	private static class StubPacketFactory extends PacketFactory {
+
+		@Override
+		public byte[] build(PacketType type, TransmissionConfig cfg, OffsetDateTime now) {
+			return new byte[] { (byte) type.ordinal() };
+		}
+	}
+}
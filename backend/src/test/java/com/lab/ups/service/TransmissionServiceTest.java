@@ -0,0 +1,71 @@
+package com.lab.ups.service;
+
+import com.lab.ups.analytics.AnalyticsProperties;
+import com.lab.ups.analytics.TrafficAnalytics;
+import com.lab.ups.dto.StartRequestDto;
+import com.lab.ups.model.TransmissionConfig;
+import com.lab.ups.model.TransmissionStatus;
+import com.lab.ups.sse.SseHub;
+import com.lab.ups.udp.DatagramUdpReceiver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.DatagramSocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TransmissionServiceTest {
+
+	private final TransmissionService service = new TransmissionService(
+			new IdleScheduleManager(), new DatagramUdpReceiver(), new SseHub(), new TrafficAnalytics(new AnalyticsProperties()));
+
+	@AfterEach
+	void tearDown() {
+		service.stop();
+	}
+
+	@Test
+	void failedRebindKeepsPreviousConfig() throws Exception {
+		int srcPort = freePort();
+		service.start(request(9000, srcPort));
+
+		// SO_REUSEADDR 없이 점유된 포트로 변경 → 수신 바인딩 실패
+		try (DatagramSocket held = new DatagramSocket(0)) {
+			assertThrows(RuntimeException.class, () -> service.update(request(9100, held.getLocalPort()), "site-a"));
+		}
+
+		TransmissionConfig cfg = service.getStatus().getConfig();
+		assertEquals(9000, cfg.getDstPort());
+		assertEquals(srcPort, cfg.getSrcPort());
+	}
+
+	private static StartRequestDto request(int dstPort, int srcPort) {
+		StartRequestDto req = new StartRequestDto();
+		req.setDstIp("127.0.0.1");
+		req.setDstPort(dstPort);
+		req.setSrcPort(srcPort);
+		req.setSiteId("site-a");
+		return req;
+	}
+
+	private static int freePort() throws Exception {
+		try (DatagramSocket s = new DatagramSocket(0)) {
+			return s.getLocalPort();
+		}
+	}
+
+	// 실제 전송 없이 세션 상태만 검증
+	private static class IdleScheduleManager extends PacketScheduleManager {
+
+		IdleScheduleManager() {
+			super(null, null);
+		}
+
+		@Override
+		public synchronized void start(TransmissionStatus status) {}
+
+		@Override
+		public synchronized void stop() {}
+	}
+}
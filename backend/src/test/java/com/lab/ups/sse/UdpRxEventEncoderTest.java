@@ -0,0 +1,61 @@
+package com.lab.ups.sse;
+
+import com.lab.ups.model.UdpRxPacket;
+import com.lab.ups.packet.PacketType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UdpRxEventEncoderTest {
+
+	@Test
+	void binaryFrameRoundTrip() throws IOException {
+		Instant t1 = Instant.parse("2026-02-05T06:12:04.288185Z");
+		Instant t2 = Instant.parse("2026-02-05T06:12:05.000001Z");
+		UdpRxPacket v4 = new UdpRxPacket(t1, "172.30.1.123", 20000, new byte[]{0x01, 0x02, (byte) 0xFF}, PacketType.B2);
+		UdpRxPacket v6 = new UdpRxPacket(t2, "::1", 65535, new byte[0], PacketType.UNKNOWN);
+
+		byte[] frame = UdpRxEventEncoder.toBinaryFrame(List.of(v4, v6));
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(frame));
+
+		assertEquals(frame.length - 4, in.readInt());
+		assertEquals(2, in.readUnsignedShort());
+
+		assertRecord(in, v4, 4);
+		assertRecord(in, v6, 16);
+
+		assertEquals(0, in.available());
+	}
+
+	@Test
+	void hexKeepsSpaceSeparatedUppercaseFormat() {
+		assertEquals("00 0A FF", UdpRxEventEncoder.toHex(new byte[]{0x00, 0x0A, (byte) 0xFF}));
+		assertEquals("", UdpRxEventEncoder.toHex(new byte[0]));
+	}
+
+	private static void assertRecord(DataInputStream in, UdpRxPacket expected, int addrLen) throws IOException {
+		long micros = expected.getReceivedAt().getEpochSecond() * 1_000_000L + expected.getReceivedAt().getNano() / 1_000;
+		assertEquals(micros, in.readLong());
+		assertEquals(expected.getType().ordinal(), in.readUnsignedByte());
+
+		assertEquals(addrLen, in.readUnsignedByte());
+		byte[] addr = new byte[addrLen];
+		in.readFully(addr);
+		assertArrayEquals(InetAddress.getByName(expected.getSrcIp()).getAddress(), addr);
+
+		assertEquals(expected.getSrcPort(), in.readUnsignedShort());
+
+		int len = in.readUnsignedShort();
+		byte[] payload = new byte[len];
+		in.readFully(payload);
+		assertArrayEquals(expected.getPayload(), payload);
+	}
+}
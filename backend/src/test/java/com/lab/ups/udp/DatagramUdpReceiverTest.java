@@ -0,0 +1,131 @@
+package com.lab.ups.udp;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DatagramUdpReceiverTest {
+
+	private final DatagramUdpReceiver receiver = new DatagramUdpReceiver();
+	private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+
+	private DatagramSocket sender;
+	private DatagramSocket held;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		sender = new DatagramSocket();
+		receiver.setOnReceive((payload, ip, port) -> received.add(new String(payload, StandardCharsets.UTF_8)));
+	}
+
+	@AfterEach
+	void tearDown() {
+		receiver.stop();
+		sender.close();
+		if (held != null) held.close();
+	}
+
+	@Test
+	void oldPortDeliversDuringOverlapAndClosesAfter() throws Exception {
+		int p1 = freePort();
+		int p2 = freePort();
+		receiver.start(p1);
+
+		receiver.rebind(p2, 300);
+		send(p1, "late-reply");
+		assertEquals("late-reply", poll());
+
+		awaitDrained();
+		send(p1, "after-overlap");
+		assertNull(received.poll(300, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	void newPortDeliversImmediately() throws Exception {
+		int p1 = freePort();
+		int p2 = freePort();
+		receiver.start(p1);
+
+		receiver.rebind(p2, 5_000);
+		send(p2, "new-port");
+
+		assertEquals("new-port", poll());
+		assertEquals(p2, receiver.activePort());
+		assertEquals(p1, receiver.drainingPort());
+	}
+
+	@Test
+	void rebindBackToDrainingPort() throws Exception {
+		int p1 = freePort();
+		int p2 = freePort();
+		receiver.start(p1);
+
+		receiver.rebind(p2, 5_000);
+		receiver.rebind(p1, 5_000);
+
+		assertEquals(p1, receiver.activePort());
+		assertEquals(p2, receiver.drainingPort());
+
+		send(p1, "back");
+		assertEquals("back", poll());
+		send(p2, "draining");
+		assertEquals("draining", poll());
+	}
+
+	@Test
+	void failedBindKeepsCurrentSockets() throws Exception {
+		int p1 = freePort();
+		int p2 = freePort();
+		receiver.start(p1);
+		receiver.rebind(p2, 5_000);
+
+		// SO_REUSEADDR 없이 점유된 포트는 바인딩 불가
+		held = new DatagramSocket(freePort());
+		int p3 = held.getLocalPort();
+
+		assertThrows(RuntimeException.class, () -> receiver.rebind(p3, 5_000));
+
+		assertEquals(p2, receiver.activePort());
+		assertEquals(p1, receiver.drainingPort());
+
+		send(p2, "active");
+		assertEquals("active", poll());
+		send(p1, "draining");
+		assertEquals("draining", poll());
+	}
+
+	private void send(int port, String text) throws Exception {
+		byte[] data = text.getBytes(StandardCharsets.UTF_8);
+		sender.send(new DatagramPacket(data, data.length, InetAddress.getLoopbackAddress(), port));
+	}
+
+	private String poll() throws InterruptedException {
+		return received.poll(2, TimeUnit.SECONDS);
+	}
+
+	private void awaitDrained() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 2_000;
+		while (receiver.drainingPort() != null && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		assertNull(receiver.drainingPort());
+	}
+
+	private static int freePort() throws Exception {
+		try (DatagramSocket s = new DatagramSocket(0)) {
+			return s.getLocalPort();
+		}
+	}
+}
@@ -0,0 +1,34 @@
+@echo off
+set "APP_HOME=%~dp0"
+set "JAVA=%APP_HOME%jre\bin\java.exe"
+set "APP_DIR=%APP_HOME%fast-start"
+set "APP_JAR=ups-0.0.1-SNAPSHOT.jar"
+set "APP_OPTS=-Dspring.aot.enabled=true -Dspring.profiles.active=fast-start"
+
+for %%F in ("%APP_HOME%%APP_JAR%") do set "JAR_STAMP=%%~tF %%~zF"
+
+set "OLD_STAMP="
+if exist "%APP_DIR%\source.stamp" set /p OLD_STAMP=<"%APP_DIR%\source.stamp"
+
+if not "%JAR_STAMP%"=="%OLD_STAMP%" (
+    echo jar changed, extracting and rebuilding CDS archive...
+    if exist "%APP_DIR%" rmdir /s /q "%APP_DIR%"
+    "%JAVA%" -Djarmode=tools -jar "%APP_HOME%%APP_JAR%" extract --destination "%APP_DIR%"
+    if errorlevel 1 goto :fail
+)
+
+cd /d "%APP_DIR%"
+
+if not exist "application.jsa" (
+    "%JAVA%" -XX:ArchiveClassesAtExit=application.jsa -Dspring.context.exit=onRefresh %APP_OPTS% -jar "%APP_JAR%"
+    if errorlevel 1 goto :fail
+    >"%APP_DIR%\source.stamp" echo %JAR_STAMP%
+)
+
+"%JAVA%" -XX:SharedArchiveFile=application.jsa %APP_OPTS% -jar "%APP_JAR%"
+pause
+goto :eof
+
+:fail
+echo fast-start preparation failed. Use run.bat instead.
+pause